@@ -0,0 +1,74 @@
+package cnpj;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/// Compara os motores escalar e vetorial de [CNPJNormalizado] em lotes de 1 milhão de registros.
+///
+/// O lote mistura CNPJs válidos, com dígito verificador incorreto, com dígitos repetidos e com caracteres não
+/// numéricos, para que os desvios condicionais de ambos os motores sejam exercitados.
+///
+/// Execução: 'java -jar target/benchmarks.jar CNPJNormalizadoBenchmark'.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class CNPJNormalizadoBenchmark {
+
+    private static final byte[] VALIDO = "12345678000195".getBytes(US_ASCII);
+
+    @Param({"1000000"})
+    private int registros;
+
+    @Param({"escalar", "vetorial"})
+    private String motor;
+
+    private CNPJNormalizado.Motor implementacao;
+    private byte[] lote;
+    private byte[] motivos;
+
+    @Setup
+    public void setup() {
+        implementacao = motor.equals("vetorial") ? new CNPJVetorial() : CNPJNormalizado.ESCALAR;
+        lote = new byte[registros * CNPJEngine.TAMANHO_CNPJ];
+        motivos = new byte[registros];
+
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0, deslocamento = 0; i < registros; i++, deslocamento += CNPJEngine.TAMANHO_CNPJ) {
+            for (int j = 0; j < CNPJEngine.TAMANHO_CNPJ; j++)
+                lote[deslocamento + j] = (byte) ('0' + random.nextInt(10));
+
+            switch (random.nextInt(8)) {
+                case 0 -> lote[deslocamento + random.nextInt(CNPJEngine.TAMANHO_CNPJ)] = '.';
+                case 1 -> Arrays.fill(lote, deslocamento, deslocamento + CNPJEngine.TAMANHO_CNPJ, (byte) '7');
+                case 2, 3, 4, 5 -> System.arraycopy(VALIDO, 0, lote, deslocamento, CNPJEngine.TAMANHO_CNPJ);
+                default -> {
+                    // Mantém os dígitos aleatórios: quase sempre um dígito verificador inválido.
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] validarLote() {
+        implementacao.validar(lote, 0, registros, motivos);
+        return motivos;
+    }
+}
@@ -0,0 +1,62 @@
+package cnpj;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/// Mede o custo de [CNPJValidator#validarCNPJ(String)] para cada tipo de entrada, com uma e com todas as threads.
+///
+/// As entradas partem da lista do 'Main': o CNPJ válido formatado e sem pontuação, um CNPJ com dígito verificador
+/// incorreto ('48.724.911/0001-99'), o mesmo CNPJ válido sem o último dígito e um CNPJ com todos os dígitos iguais.
+/// Cada tipo exercita uma saída diferente do motor, e a versão multithread revela qualquer contenção ou alocação
+/// que só aparece sob carga.
+///
+/// Execução, com a alocação por operação ('gc.alloc.rate.norm', em bytes/op) medida pelo profiler de GC:
+/// 'java -jar target/benchmarks.jar CNPJValidatorBenchmark -prof gc'.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class CNPJValidatorBenchmark {
+
+    @Param({"formatado", "sem_pontuacao", "tamanho_incorreto", "digitos_repetidos", "dv_invalido"})
+    private String entrada;
+
+    private String cnpj;
+
+    @Setup
+    public void setup() {
+        cnpj = switch (entrada) {
+            case "formatado" -> "12.345.678/0001-95";
+            case "sem_pontuacao" -> "12345678000195";
+            case "tamanho_incorreto" -> "12.345.678/0001-9";
+            case "digitos_repetidos" -> "11.111.111/1111-11";
+            case "dv_invalido" -> "48.724.911/0001-99";
+            default -> throw new IllegalArgumentException("Entrada desconhecida: " + entrada);
+        };
+    }
+
+    @Benchmark
+    public boolean validarCNPJ() {
+        return CNPJValidator.validarCNPJ(cnpj);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean validarCNPJConcorrente() {
+        return CNPJValidator.validarCNPJ(cnpj);
+    }
+}
@@ -0,0 +1,12 @@
+package com.restful.rest.server.cnpj.validator;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+import static org.springframework.boot.SpringApplication.run;
+
+@SpringBootApplication(scanBasePackages = "com.restful.rest.server.cnpj.validator")
+public class Application {
+	public static void main(String[] args) {
+		run(Application.class, args);
+	}
+}
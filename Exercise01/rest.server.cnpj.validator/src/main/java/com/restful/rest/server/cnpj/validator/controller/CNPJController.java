@@ -0,0 +1,71 @@
+package com.restful.rest.server.cnpj.validator.controller;
+
+import cnpj.CNPJEngine;
+import com.restful.rest.server.cnpj.validator.dto.ValidacaoDTO;
+import com.restful.rest.server.cnpj.validator.service.CNPJService;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_PLAIN_VALUE;
+
+@RestController("CNPJController")
+public class CNPJController {
+
+    private final CNPJService cnpjService;
+
+    /// Construtor da classe 'CNPJController'.
+    ///
+    /// @param cnpjService O serviço responsável pela validação dos CNPJs.
+    public CNPJController(CNPJService cnpjService) {
+        this.cnpjService = cnpjService;
+    }
+
+    /// Valida um único CNPJ.
+    ///
+    /// Este metodo é acessado via uma requisição GET para a URL "/api/cnpj?cnpj=12.345.678/0001-95". O CNPJ vai
+    /// como parâmetro de consulta, e não no caminho, porque a forma formatada contém '/'. O parâmetro opcional
+    /// 'formato' aceita 'NUMERICO' (padrão) ou 'ALFANUMERICO'.
+    ///
+    /// @param cnpj    O CNPJ, com ou sem pontuação.
+    /// @param formato O formato aceito.
+    /// @return O resultado da validação, com os campos '"cnpj"', '"valido"' e '"motivo"'.
+    @GetMapping(value = "/api/cnpj", produces = APPLICATION_JSON_VALUE)
+    public ValidacaoDTO validar(
+            @RequestParam String cnpj,
+            @RequestParam(defaultValue = "NUMERICO") CNPJEngine.Formato formato
+    ) {
+        return cnpjService.validar(cnpj, formato);
+    }
+
+    /// Valida um lote de CNPJs enviados como texto, um por linha, e devolve um NDJSON com um resultado por linha.
+    ///
+    /// A resposta é escrita enquanto o corpo da requisição ainda está sendo lido, de modo que lotes de qualquer
+    /// tamanho são processados com memória constante. Cada resultado inclui o campo '"linha"' (a partir de 1) para
+    /// que o cliente possa correlacioná-lo com a entrada. Exemplo:
+    ///
+    /// 'curl -X POST -T cnpjs.txt -H "Content-Type: text/plain" http://localhost:8080/api/cnpj/lote'
+    ///
+    /// @param formato  O formato aceito.
+    /// @param entrada  O corpo da requisição.
+    /// @param resposta A resposta HTTP, escrita diretamente pelo serviço.
+    /// @throws IOException Se ocorrer um erro ao ler a requisição ou escrever a resposta.
+    @PostMapping(value = "/api/cnpj/lote", consumes = TEXT_PLAIN_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    public void validarLote(
+            @RequestParam(defaultValue = "NUMERICO") CNPJEngine.Formato formato,
+            InputStream entrada,
+            HttpServletResponse resposta
+    ) throws IOException {
+        resposta.setContentType(APPLICATION_NDJSON_VALUE);
+        resposta.setCharacterEncoding("UTF-8");
+
+        cnpjService.validarLote(entrada, resposta.getOutputStream(), formato);
+    }
+}
@@ -0,0 +1,17 @@
+package com.restful.rest.server.cnpj.validator.dto;
+
+/// 'ValidacaoDTO' é um record que representa o resultado da validação de um único CNPJ.
+///
+/// É a resposta do endpoint unitário e também o formato de cada linha do NDJSON devolvido pelo endpoint de lote
+/// (que acrescenta apenas o campo 'linha').
+///
+/// @param cnpj   O CNPJ exatamente como foi recebido.
+/// @param valido 'true' se o CNPJ for válido; caso contrário, 'false'.
+/// @param motivo 'VALIDO' ou o motivo da rejeição ('TAMANHO_INCORRETO', 'DIGITOS_REPETIDOS',
+///               'PRIMEIRO_DV_INVALIDO' ou 'SEGUNDO_DV_INVALIDO').
+public record ValidacaoDTO(
+        String cnpj,
+        boolean valido,
+        String motivo
+) {
+}
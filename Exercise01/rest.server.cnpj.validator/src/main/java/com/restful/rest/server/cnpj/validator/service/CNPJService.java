@@ -0,0 +1,30 @@
+package com.restful.rest.server.cnpj.validator.service;
+
+import cnpj.CNPJEngine;
+import com.restful.rest.server.cnpj.validator.dto.ValidacaoDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface CNPJService {
+
+    /// Valida um único CNPJ.
+    ///
+    /// @param cnpj    O CNPJ, com ou sem pontuação.
+    /// @param formato O formato aceito (numérico ou alfanumérico).
+    /// @return O resultado da validação.
+    ValidacaoDTO validar(String cnpj, CNPJEngine.Formato formato);
+
+    /// Valida um lote de CNPJs, um por linha, escrevendo um objeto JSON por linha (NDJSON) à medida que lê.
+    ///
+    /// A entrada nunca é carregada inteira em memória: cada linha é validada e escrita na saída assim que lida.
+    /// Linhas vazias são ignoradas, mas contam para a numeração das linhas.
+    ///
+    /// @param entrada O texto UTF-8 com um CNPJ por linha.
+    /// @param saida   O destino do NDJSON.
+    /// @param formato O formato aceito (numérico ou alfanumérico).
+    /// @return A quantidade de CNPJs validados.
+    /// @throws IOException Se ocorrer um erro ao ler a entrada ou escrever a saída.
+    long validarLote(InputStream entrada, OutputStream saida, CNPJEngine.Formato formato) throws IOException;
+}
@@ -0,0 +1,145 @@
+package com.restful.rest.server.cnpj.validator.service.impl;
+
+import cnpj.CNPJEngine;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.restful.rest.server.cnpj.validator.dto.ValidacaoDTO;
+import com.restful.rest.server.cnpj.validator.service.CNPJService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/// Implementação de 'CNPJService' sobre o [CNPJEngine] do módulo 'cnpj.validator'.
+///
+/// Publica no 'MeterRegistry' do actuator:
+///
+/// - 'cnpj.validacoes' (contador, com a tag 'motivo'): a vazão de CNPJs validados, unitários e em lote;
+/// - 'cnpj.lote.duracao' (timer): a duração de cada lote, do primeiro byte lido ao último escrito;
+/// - 'cnpj.lote.linhas' (resumo): a quantidade de CNPJs de cada lote.
+///
+/// A latência do endpoint unitário já é medida pelo 'http.server.requests' do próprio Spring.
+@Service
+public class CNPJServiceImpl implements CNPJService {
+
+    /// Nomes dos motivos, indexados pelo código devolvido por [CNPJEngine#motivo(CharSequence)].
+    private static final String[] MOTIVOS = {
+            "VALIDO", "TAMANHO_INCORRETO", "DIGITOS_REPETIDOS", "PRIMEIRO_DV_INVALIDO", "SEGUNDO_DV_INVALIDO"
+    };
+
+    /// Quantidade máxima de linhas escritas antes de forçar o envio da saída ao cliente.
+    private static final int LINHAS_POR_ENVIO = 4096;
+
+    /// Tamanho do buffer de leitura da entrada.
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Counter[] validacoes = new Counter[MOTIVOS.length];
+    private final Timer duracaoLote;
+    private final DistributionSummary linhasLote;
+
+    /// Construtor da classe 'CNPJServiceImpl'.
+    ///
+    /// Registra as métricas uma única vez, para que o caminho de validação apenas incremente contadores.
+    ///
+    /// @param objectMapper  O 'ObjectMapper' do Spring, usado para criar o gerador de JSON do lote.
+    /// @param meterRegistry O registro de métricas do actuator.
+    public CNPJServiceImpl(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+
+        for (int motivo = 0; motivo < MOTIVOS.length; motivo++)
+            validacoes[motivo] = Counter.builder("cnpj.validacoes")
+                    .description("CNPJs validados")
+                    .tag("motivo", MOTIVOS[motivo])
+                    .register(meterRegistry);
+
+        this.duracaoLote = Timer.builder("cnpj.lote.duracao")
+                .description("Duração da validação de um lote")
+                .register(meterRegistry);
+        this.linhasLote = DistributionSummary.builder("cnpj.lote.linhas")
+                .description("CNPJs por lote")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public ValidacaoDTO validar(String cnpj, CNPJEngine.Formato formato) {
+        byte motivo = CNPJEngine.motivo(cnpj, formato);
+        validacoes[motivo].increment();
+
+        return new ValidacaoDTO(cnpj, motivo == CNPJEngine.VALIDO, MOTIVOS[motivo]);
+    }
+
+    /// Lê a entrada linha a linha e escreve, para cada CNPJ, um objeto
+    /// '{"linha":n,"cnpj":"...","valido":true|false,"motivo":"..."}' seguido de '\n'.
+    ///
+    /// Os objetos são escritos diretamente pelo 'JsonGenerator', sem criar DTOs. A saída é enviada ao cliente a cada
+    /// [#LINHAS_POR_ENVIO] linhas ou sempre que a leitura da próxima linha puder bloquear, de modo que o cliente
+    /// recebe os resultados enquanto ainda envia o lote. As contagens por motivo são acumuladas localmente e
+    /// repassadas aos contadores a cada envio.
+    @Override
+    public long validarLote(InputStream entrada, OutputStream saida, CNPJEngine.Formato formato) throws IOException {
+        long inicio = System.nanoTime();
+        long[] contagens = new long[MOTIVOS.length];
+        long linha = 0, validados = 0;
+
+        BufferedReader leitor = new BufferedReader(new InputStreamReader(entrada, UTF_8), TAMANHO_BUFFER);
+
+        try (JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)) {
+            gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gerador.setRootValueSeparator(null); // O separador entre os objetos é o '\n' escrito abaixo.
+
+            int pendentes = 0;
+
+            for (String cnpj; (cnpj = leitor.readLine()) != null; ) {
+                linha++;
+                if (cnpj.isBlank()) continue;
+
+                byte motivo = CNPJEngine.motivo(cnpj, formato);
+                contagens[motivo]++;
+                validados++;
+
+                gerador.writeStartObject();
+                gerador.writeNumberField("linha", linha);
+                gerador.writeStringField("cnpj", cnpj);
+                gerador.writeBooleanField("valido", motivo == CNPJEngine.VALIDO);
+                gerador.writeStringField("motivo", MOTIVOS[motivo]);
+                gerador.writeEndObject();
+                gerador.writeRaw('\n');
+
+                if (++pendentes == LINHAS_POR_ENVIO || !leitor.ready()) {
+                    gerador.flush();
+                    registrar(contagens);
+                    pendentes = 0;
+                }
+            }
+
+            gerador.flush();
+        } finally {
+            registrar(contagens);
+            duracaoLote.record(System.nanoTime() - inicio, NANOSECONDS);
+            linhasLote.record(validados);
+        }
+
+        return validados;
+    }
+
+    /// Repassa as contagens acumuladas aos contadores e as zera.
+    private void registrar(long[] contagens) {
+        for (int motivo = 0; motivo < contagens.length; motivo++) {
+            if (contagens[motivo] == 0) continue;
+
+            validacoes[motivo].increment(contagens[motivo]);
+            contagens[motivo] = 0;
+        }
+    }
+}
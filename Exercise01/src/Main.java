@@ -1,3 +1,5 @@
+import cnpj.CNPJValidator;
+
 import java.util.List;
 
 import static java.util.Arrays.asList;
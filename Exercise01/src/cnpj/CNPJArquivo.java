@@ -0,0 +1,276 @@
+package cnpj;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.file.StandardOpenOption.READ;
+
+/// Validação de arquivos de CNPJs mapeados em memória.
+///
+/// O arquivo deve conter um CNPJ por linha ou, no caso de CSV, um CNPJ em uma coluna fixa. Ele é dividido em blocos
+/// de aproximadamente [#TAMANHO_BLOCO] bytes, sempre ajustados ao fim de uma linha, e cada bloco é mapeado com NIO e
+/// varrido por uma tarefa de fork-join. Os bytes são validados diretamente no buffer mapeado pelo [CNPJEngine], sem
+/// criar uma 'String' por registro.
+///
+/// Para cada linha inválida é informado o deslocamento, em bytes, do início da linha no arquivo e o motivo da
+/// rejeição. As linhas inválidas são entregues em ordem crescente de deslocamento, a partir de uma única thread.
+///
+/// Cada bloco guarda as suas linhas inválidas até ser consumido, e no máximo '2 × paralelismo' blocos ficam no pool
+/// ao mesmo tempo: a memória usada depende do tamanho dos blocos e do paralelismo, e não do tamanho do arquivo.
+///
+/// Linhas vazias são ignoradas. O separador de linha é '\n'; um '\r' final, como qualquer outro caractere não
+/// numérico, é descartado pela validação.
+public final class CNPJArquivo {
+
+    /// Tamanho aproximado de cada bloco mapeado e validado por uma única tarefa.
+    static final int TAMANHO_BLOCO = 64 * 1024 * 1024;
+
+    private final int coluna;
+    private final byte separador;
+    private final boolean cabecalho;
+    private final ForkJoinPool pool;
+
+    /// Cria um validador para arquivos com um CNPJ por linha.
+    public CNPJArquivo() {
+        this(0, (byte) '\n', false, ForkJoinPool.commonPool());
+    }
+
+    /// Cria um validador para arquivos CSV, usando o pool comum de fork-join.
+    ///
+    /// @param coluna    Índice (a partir de 0) da coluna que contém o CNPJ.
+    /// @param separador Separador de colunas (ASCII).
+    /// @param cabecalho Indica se a primeira linha do arquivo é um cabeçalho a ser ignorado.
+    /// @throws IllegalArgumentException Se a coluna for negativa ou o separador não for ASCII.
+    public CNPJArquivo(int coluna, char separador, boolean cabecalho) {
+        this(coluna, separador, cabecalho, ForkJoinPool.commonPool());
+    }
+
+    /// Cria um validador para arquivos CSV.
+    ///
+    /// @param coluna    Índice (a partir de 0) da coluna que contém o CNPJ.
+    /// @param separador Separador de colunas (ASCII).
+    /// @param cabecalho Indica se a primeira linha do arquivo é um cabeçalho a ser ignorado.
+    /// @param pool      O pool onde os blocos serão validados.
+    /// @throws IllegalArgumentException Se a coluna for negativa ou o separador não for ASCII.
+    public CNPJArquivo(int coluna, char separador, boolean cabecalho, ForkJoinPool pool) {
+        this(coluna, separadorAscii(separador), cabecalho, pool);
+    }
+
+    /// Construtor interno; um separador '\n' indica que a linha inteira é o CNPJ.
+    private CNPJArquivo(int coluna, byte separador, boolean cabecalho, ForkJoinPool pool) {
+        if (coluna < 0) throw new IllegalArgumentException("A coluna não pode ser negativa.");
+
+        this.coluna = coluna;
+        this.separador = separador;
+        this.cabecalho = cabecalho;
+        this.pool = pool;
+    }
+
+    /// Converte o separador de colunas para o byte ASCII correspondente.
+    ///
+    /// @throws IllegalArgumentException Se o separador não for ASCII ou for o separador de linhas.
+    private static byte separadorAscii(char separador) {
+        if (separador > 127 || separador == '\n') throw new IllegalArgumentException("Separador inválido.");
+        return (byte) separador;
+    }
+
+    /// Recebe as linhas inválidas encontradas na validação de um arquivo.
+    @FunctionalInterface
+    public interface OuvinteInvalido {
+
+        /// Chamado uma vez para cada linha inválida, em ordem crescente de deslocamento.
+        ///
+        /// @param deslocamento Posição, em bytes, do início da linha no arquivo.
+        /// @param motivo       O motivo da rejeição (ver [CNPJEngine]).
+        /// @throws IOException Se o ouvinte não puder registrar a linha.
+        void invalido(long deslocamento, byte motivo) throws IOException;
+    }
+
+    /// Totais de uma validação de arquivo.
+    ///
+    /// @param linhas    Quantidade de linhas validadas (sem contar cabeçalho e linhas vazias).
+    /// @param invalidos Quantidade de linhas inválidas.
+    public record Resumo(long linhas, long invalidos) {
+    }
+
+    /// Valida o arquivo e grava um relatório com as linhas inválidas.
+    ///
+    /// O relatório é um arquivo texto com uma linha 'deslocamento;motivo' para cada CNPJ inválido.
+    ///
+    /// @param arquivo   O arquivo a ser validado.
+    /// @param relatorio O arquivo de relatório (criado ou sobrescrito).
+    /// @return Os totais da validação.
+    /// @throws IOException Se ocorrer um erro de leitura ou escrita.
+    public Resumo validar(Path arquivo, Path relatorio) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(relatorio, US_ASCII)) {
+            return validar(arquivo, (deslocamento, motivo) -> {
+                writer.write(Long.toString(deslocamento));
+                writer.write(';');
+                writer.write('0' + motivo);
+                writer.newLine();
+            });
+        }
+    }
+
+    /// Valida o arquivo e informa cada linha inválida ao ouvinte.
+    ///
+    /// @param arquivo O arquivo a ser validado.
+    /// @param ouvinte O ouvinte das linhas inválidas.
+    /// @return Os totais da validação.
+    /// @throws IOException Se ocorrer um erro de leitura ou se o ouvinte falhar.
+    public Resumo validar(Path arquivo, OuvinteInvalido ouvinte) throws IOException {
+        try (FileChannel channel = FileChannel.open(arquivo, READ)) {
+            long tamanho = channel.size();
+            int janela = 2 * pool.getParallelism();
+            ArrayDeque<ForkJoinTask<Parcial>> tarefas = new ArrayDeque<>(janela);
+
+            long inicio = 0, linhas = 0, invalidos = 0;
+            try {
+                while (inicio < tamanho || !tarefas.isEmpty()) {
+                    // Divide o arquivo em blocos terminados em fim de linha e mantém até 'janela' deles no pool,
+                    // submetendo o próximo conforme o mais antigo é consumido.
+                    while (inicio < tamanho && tarefas.size() < janela) {
+                        long fim = fimDaLinha(channel, Math.min(inicio + TAMANHO_BLOCO, tamanho), tamanho);
+                        tarefas.add(pool.submit(new Tarefa(channel, inicio, fim, cabecalho && inicio == 0)));
+                        inicio = fim;
+                    }
+
+                    // Consome os blocos na ordem do arquivo.
+                    Parcial parcial = tarefas.poll().join();
+
+                    linhas += parcial.linhas;
+                    invalidos += parcial.quantidade;
+
+                    for (int i = 0; i < parcial.quantidade; i++)
+                        ouvinte.invalido(parcial.deslocamentos[i], parcial.motivos[i]);
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } finally {
+                tarefas.forEach(tarefa -> tarefa.cancel(false));
+            }
+
+            return new Resumo(linhas, invalidos);
+        }
+    }
+
+    /// Localiza a posição imediatamente após o próximo '\n' a partir de 'posicao'.
+    ///
+    /// @param channel  O canal do arquivo.
+    /// @param posicao  Posição a partir da qual a busca é feita.
+    /// @param tamanho  Tamanho do arquivo.
+    /// @return A posição do início da próxima linha, ou 'tamanho' se não houver outra linha.
+    /// @throws IOException Se ocorrer um erro de leitura.
+    private static long fimDaLinha(FileChannel channel, long posicao, long tamanho) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+        while (posicao < tamanho) {
+            buffer.clear();
+            int lidos = channel.read(buffer, posicao);
+            if (lidos <= 0) break;
+
+            for (int i = 0; i < lidos; i++)
+                if (buffer.get(i) == '\n') return posicao + i + 1;
+
+            posicao += lidos;
+        }
+
+        return tamanho;
+    }
+
+    /// Linhas inválidas de um bloco, acumuladas em arrays primitivos.
+    private static final class Parcial {
+
+        long linhas;
+        int quantidade;
+        long[] deslocamentos = new long[64];
+        byte[] motivos = new byte[64];
+
+        void adicionar(long deslocamento, byte motivo) {
+            if (quantidade == motivos.length) {
+                deslocamentos = Arrays.copyOf(deslocamentos, quantidade * 2);
+                motivos = Arrays.copyOf(motivos, quantidade * 2);
+            }
+
+            deslocamentos[quantidade] = deslocamento;
+            motivos[quantidade++] = motivo;
+        }
+    }
+
+    /// Tarefa que mapeia e valida o bloco '[inicio, fim)' do arquivo.
+    private final class Tarefa extends RecursiveTask<Parcial> {
+
+        private final FileChannel channel;
+        private final long inicio, fim;
+        private final boolean ignorarPrimeiraLinha;
+
+        Tarefa(FileChannel channel, long inicio, long fim, boolean ignorarPrimeiraLinha) {
+            this.channel = channel;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.ignorarPrimeiraLinha = ignorarPrimeiraLinha;
+        }
+
+        @Override
+        protected Parcial compute() {
+            MappedByteBuffer bloco;
+            try {
+                bloco = channel.map(READ_ONLY, inicio, fim - inicio);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            Parcial parcial = new Parcial();
+            int limite = bloco.limit();
+            int linha = 0, campo = 0, campoInicio = 0, campoFim = -1;
+            boolean ignorar = ignorarPrimeiraLinha;
+
+            for (int i = 0; i <= limite; i++) {
+                byte b = i < limite ? bloco.get(i) : (byte) '\n';
+
+                if (b != '\n') {
+                    if (b == separador) {
+                        if (campo == coluna) campoFim = i;
+                        if (++campo == coluna) campoInicio = i + 1;
+                    }
+                    continue;
+                }
+
+                // Fim de linha: valida a coluna do CNPJ, se a linha não estiver vazia.
+                if (campo == coluna && campoFim < 0) campoFim = i;
+
+                if (ignorar) {
+                    ignorar = false;
+                } else if (i > linha && !(i == linha + 1 && bloco.get(linha) == '\r')) {
+                    parcial.linhas++;
+
+                    byte motivo = campoFim < 0
+                            ? CNPJEngine.TAMANHO_INCORRETO
+                            : CNPJEngine.avaliar(bloco, campoInicio, campoFim);
+
+                    if (motivo != CNPJEngine.VALIDO) parcial.adicionar(inicio + linha, motivo);
+                }
+
+                linha = i + 1;
+                campo = 0;
+                campoInicio = linha;
+                campoFim = -1;
+            }
+
+            return parcial;
+        }
+    }
+}
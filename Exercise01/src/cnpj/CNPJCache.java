@@ -0,0 +1,181 @@
+package cnpj;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.LongAdder;
+
+/// Cache de tamanho fixo para resultados de validação de CNPJ.
+///
+/// Pensado para caminhos de requisição em que os mesmos CNPJs são validados repetidamente. A chave é o valor
+/// numérico dos 14 dígitos normalizados, empacotado em um 'long' por [Cnpj#empacotar(CharSequence)] durante uma
+/// única varredura da entrada, de modo que nenhuma 'String' é criada para servir de chave.
+///
+/// A tabela é associativa por conjuntos: cada chave só pode ocupar uma das [#VIAS] posições do seu conjunto. Cada
+/// posição é um único 'long' que guarda, juntos, a chave, um bit de referência e o motivo da validação:
+///
+/// - Leituras são simples leituras voláteis de um 'long'; uma entrada nunca é vista pela metade.
+/// - Escritas usam compare-and-set, sem travas, o que torna o cache seguro sob acesso concorrente intenso,
+///   inclusive a partir de threads virtuais (não há 'synchronized' nem bloqueios que as prendam à thread portadora).
+/// - A substituição segue o algoritmo CLOCK (segunda chance): uma entrada usada desde a última varredura tem o
+///   bit de referência limpo e é poupada uma vez; a primeira entrada sem o bit é substituída.
+///
+/// Entradas com quantidade de dígitos diferente de 14 não são armazenadas: o motivo [CNPJEngine#TAMANHO_INCORRETO]
+/// é obtido pela própria varredura de empacotamento. Apenas o formato numérico é suportado.
+public final class CNPJCache {
+
+    /// Quantidade de posições em cada conjunto da tabela.
+    static final int VIAS = 8;
+
+    /// Bits reservados para o motivo na entrada.
+    private static final int BITS_MOTIVO = 3;
+
+    /// Bit de referência do algoritmo CLOCK.
+    private static final long REFERENCIA = 1L << BITS_MOTIVO;
+
+    /// Deslocamento da chave dentro da entrada.
+    private static final int DESLOCAMENTO_CHAVE = BITS_MOTIVO + 1;
+
+    /// Entrada vazia (a chave armazenada é sempre o valor do CNPJ mais um).
+    private static final long VAZIA = 0;
+
+    private static final VarHandle ENTRADAS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] entradas;
+    private final int mascaraConjuntos;
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    /// Cria um cache com capacidade para, no mínimo, a quantidade de entradas informada.
+    ///
+    /// A capacidade é arredondada para a próxima potência de dois (e nunca é menor que [#VIAS]).
+    ///
+    /// @param capacidade A quantidade desejada de entradas.
+    /// @throws IllegalArgumentException Se a capacidade não for positiva ou exceder 2^30.
+    public CNPJCache(int capacidade) {
+        if (capacidade < 1 || capacidade > 1 << 30)
+            throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+
+        int tamanho = Math.max(VIAS, Integer.highestOneBit(capacidade - 1) << 1);
+
+        this.entradas = new long[tamanho];
+        this.mascaraConjuntos = tamanho / VIAS - 1;
+    }
+
+    /// Verifica se o CNPJ é válido, consultando o cache antes de validá-lo.
+    ///
+    /// @param cnpj O CNPJ, com ou sem pontuação.
+    /// @return 'true' se o CNPJ for válido; caso contrário, 'false'.
+    public boolean isValido(CharSequence cnpj) {
+        return motivo(cnpj) == CNPJEngine.VALIDO;
+    }
+
+    /// Classifica o CNPJ, consultando o cache antes de validá-lo.
+    ///
+    /// @param cnpj O CNPJ, com ou sem pontuação.
+    /// @return 'VALIDO' ou o motivo da rejeição, idêntico a [CNPJEngine#motivo(CharSequence)].
+    public byte motivo(CharSequence cnpj) {
+        long valor = Cnpj.empacotar(cnpj);
+        if (valor == Cnpj.NENHUM) return CNPJEngine.TAMANHO_INCORRETO;
+
+        return motivo(valor, cnpj);
+    }
+
+    /// Consulta a chave no cache e, em caso de falha, valida o CNPJ e armazena o resultado.
+    ///
+    /// @param valor O valor numérico dos 14 dígitos.
+    /// @param cnpj  O CNPJ original, usado apenas em caso de falha.
+    /// @return O motivo da validação.
+    private byte motivo(long valor, CharSequence cnpj) {
+        long chave = valor + 1;
+        int conjunto = (int) (misturar(chave) & mascaraConjuntos) * VIAS;
+
+        for (int i = conjunto; i < conjunto + VIAS; i++) {
+            long entrada = (long) ENTRADAS.getVolatile(entradas, i);
+
+            if (entrada >>> DESLOCAMENTO_CHAVE == chave) {
+                // Marca a entrada como usada; se outra thread alterou a posição, apenas perde-se a marca.
+                if ((entrada & REFERENCIA) == 0) ENTRADAS.compareAndSet(entradas, i, entrada, entrada | REFERENCIA);
+
+                acertos.increment();
+                return (byte) (entrada & (REFERENCIA - 1));
+            }
+        }
+
+        falhas.increment();
+
+        byte motivo = CNPJEngine.motivo(cnpj);
+        inserir(conjunto, chave << DESLOCAMENTO_CHAVE | motivo);
+
+        return motivo;
+    }
+
+    /// Insere a entrada no conjunto, substituindo uma posição vazia ou a primeira sem bit de referência.
+    ///
+    /// Percorre o conjunto no máximo duas vezes: na primeira volta, os bits de referência encontrados são limpos
+    /// (segunda chance), garantindo uma vítima na segunda volta. Se outra thread alterar uma posição durante a
+    /// varredura, a inserção é simplesmente abandonada — o cache é apenas uma otimização.
+    ///
+    /// @param conjunto Índice da primeira posição do conjunto.
+    /// @param nova     A entrada a ser inserida.
+    private void inserir(int conjunto, long nova) {
+        for (int volta = 0; volta < 2; volta++) {
+            for (int i = conjunto; i < conjunto + VIAS; i++) {
+                long entrada = (long) ENTRADAS.getVolatile(entradas, i);
+
+                if (entrada == VAZIA || (entrada & REFERENCIA) == 0) {
+                    ENTRADAS.compareAndSet(entradas, i, entrada, nova);
+                    return;
+                }
+
+                if (!ENTRADAS.compareAndSet(entradas, i, entrada, entrada & ~REFERENCIA)) return;
+            }
+        }
+    }
+
+    /// Retorna a quantidade de consultas respondidas pelo cache.
+    ///
+    /// @return A quantidade de acertos.
+    public long acertos() {
+        return acertos.sum();
+    }
+
+    /// Retorna a quantidade de consultas que precisaram validar o CNPJ.
+    ///
+    /// @return A quantidade de falhas.
+    public long falhas() {
+        return falhas.sum();
+    }
+
+    /// Retorna a fração das consultas respondidas pelo cache.
+    ///
+    /// @return A taxa de acerto, entre '0' e '1' (ou '0' se não houve consultas).
+    public double taxaDeAcerto() {
+        long acertos = acertos(), total = acertos + falhas();
+        return total == 0 ? 0 : (double) acertos / total;
+    }
+
+    /// Retorna a quantidade de posições da tabela.
+    ///
+    /// @return A capacidade do cache.
+    public int capacidade() {
+        return entradas.length;
+    }
+
+    /// Remove todas as entradas e zera os contadores.
+    public void limpar() {
+        for (int i = 0; i < entradas.length; i++)
+            ENTRADAS.setVolatile(entradas, i, VAZIA);
+
+        acertos.reset();
+        falhas.reset();
+    }
+
+    /// Espalha os bits da chave (finalizador do MurmurHash3) para distribuir as chaves entre os conjuntos.
+    private static long misturar(long chave) {
+        chave ^= chave >>> 33;
+        chave *= 0xFF51AFD7ED558CCDL;
+        chave ^= chave >>> 33;
+        chave *= 0xC4CEB9FE1A85EC53L;
+        return chave ^ (chave >>> 33);
+    }
+}
@@ -0,0 +1,463 @@
+package cnpj;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/// Motor de validação de CNPJ em passagem única e sem alocações.
+///
+/// Diferente da implementação original de [CNPJValidator], que removia a pontuação com expressão regular,
+/// extraía substrings e concatenava os dígitos verificadores em uma nova 'String', este motor percorre a entrada
+/// uma única vez, ignorando qualquer caractere que não seja um dígito ASCII ('0' a '9') à medida que avança.
+///
+/// As duas somas ponderadas são acumuladas em variáveis locais primitivas e as tabelas de pesos são constantes,
+/// de modo que nenhuma validação aloca objetos. A entrada pode ser:
+///
+/// - Um [CharSequence] ('String', 'StringBuilder', 'CharBuffer', ...).
+/// - Um intervalo de um 'char[]'.
+/// - Um intervalo de um 'byte[]' codificado em ASCII (ou UTF-8, já que os dígitos ocupam um único byte).
+/// - Um intervalo de um [ByteBuffer] com o mesmo conteúdo, inclusive regiões de arquivos mapeados em memória.
+///
+/// A semântica é idêntica à de [CNPJValidator#validarCNPJ(String)]: qualquer caractere não numérico é descartado,
+/// devem restar exatamente 14 dígitos, eles não podem ser todos iguais e os dois dígitos verificadores devem conferir.
+///
+/// No formato [Formato#ALFANUMERICO] (CNPJs emitidos a partir de julho de 2026), as 12 posições da base também
+/// podem conter letras, valendo o código ASCII menos 48 ('A' = 17, ..., 'Z' = 42); os dígitos verificadores
+/// continuam numéricos. O valor de cada caractere vem de uma tabela de 128 posições pré-calculada, de modo que o
+/// laço principal não faz nenhuma chamada sensível a Unicode e é o mesmo para os dois formatos.
+public final class CNPJEngine {
+
+    /// Quantidade de dígitos de um CNPJ completo.
+    static final int TAMANHO_CNPJ = 14;
+
+    /// Quantidade de dígitos da base do CNPJ (sem os dígitos verificadores).
+    static final int TAMANHO_BASE = 12;
+
+    /// Pesos aplicados aos 12 dígitos da base no cálculo do primeiro dígito verificador.
+    static final int[] PESOS_PRIMEIRO_DV = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    /// Pesos aplicados aos 12 dígitos da base no cálculo do segundo dígito verificador.
+    ///
+    /// O peso da 13ª posição (o primeiro dígito verificador) é sempre '2' e é aplicado à parte.
+    static final int[] PESOS_SEGUNDO_DV = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3};
+
+    /// Valor na tabela de caracteres para os caracteres que devem ser ignorados (pontuação e afins).
+    static final byte IGNORAR = -1;
+
+    /// Motivo: CNPJ válido.
+    public static final byte VALIDO = 0;
+
+    /// Motivo: quantidade de dígitos diferente de 14.
+    public static final byte TAMANHO_INCORRETO = 1;
+
+    /// Motivo: todos os 14 dígitos são iguais.
+    public static final byte DIGITOS_REPETIDOS = 2;
+
+    /// Motivo: o primeiro dígito verificador não confere.
+    public static final byte PRIMEIRO_DV_INVALIDO = 3;
+
+    /// Motivo: o segundo dígito verificador não confere.
+    public static final byte SEGUNDO_DV_INVALIDO = 4;
+
+    /// Formatos de CNPJ aceitos pelo motor.
+    public enum Formato {
+
+        /// Somente dígitos: qualquer outro caractere, inclusive letras, é descartado.
+        NUMERICO(tabelaDeValores(false)),
+
+        /// Dígitos ou letras (maiúsculas ou minúsculas) na base; dígitos nos dígitos verificadores.
+        ///
+        /// Aceita também CNPJs puramente numéricos.
+        ALFANUMERICO(tabelaDeValores(true));
+
+        /// Valor de cada caractere ASCII no cálculo, ou 'IGNORAR'.
+        final byte[] valores;
+
+        Formato(byte[] valores) {
+            this.valores = valores;
+        }
+    }
+
+    private CNPJEngine() {
+    }
+
+    /// Verifica se o CNPJ representado pela sequência de caracteres é válido.
+    ///
+    /// @param cnpj O CNPJ, com ou sem pontuação.
+    /// @return 'true' se o CNPJ for válido; caso contrário, 'false'.
+    public static boolean isValido(CharSequence cnpj) {
+        return avaliar(cnpj, 0, cnpj.length()) == VALIDO;
+    }
+
+    /// Verifica se o CNPJ representado pela sequência de caracteres é válido no formato informado.
+    ///
+    /// @param cnpj    O CNPJ, com ou sem pontuação.
+    /// @param formato O formato aceito.
+    /// @return 'true' se o CNPJ for válido; caso contrário, 'false'.
+    public static boolean isValido(CharSequence cnpj, Formato formato) {
+        return avaliar(cnpj, 0, cnpj.length(), formato.valores) == VALIDO;
+    }
+
+    /// Verifica se o CNPJ contido no intervalo '[inicio, fim)' da sequência de caracteres é válido.
+    ///
+    /// @param cnpj   A sequência que contém o CNPJ.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return 'true' se o CNPJ for válido; caso contrário, 'false'.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites da sequência.
+    public static boolean isValido(CharSequence cnpj, int inicio, int fim) {
+        checarIntervalo(inicio, fim, cnpj.length());
+        return avaliar(cnpj, inicio, fim) == VALIDO;
+    }
+
+    /// Verifica se o CNPJ contido no intervalo '[inicio, fim)' do array de caracteres é válido.
+    ///
+    /// @param cnpj   O array que contém o CNPJ.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return 'true' se o CNPJ for válido; caso contrário, 'false'.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do array.
+    public static boolean isValido(char[] cnpj, int inicio, int fim) {
+        checarIntervalo(inicio, fim, cnpj.length);
+        return avaliar(cnpj, inicio, fim) == VALIDO;
+    }
+
+    /// Verifica se o CNPJ contido no intervalo '[inicio, fim)' do array de bytes ASCII é válido.
+    ///
+    /// @param cnpj   O array que contém o CNPJ codificado em ASCII.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return 'true' se o CNPJ for válido; caso contrário, 'false'.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do array.
+    public static boolean isValido(byte[] cnpj, int inicio, int fim) {
+        checarIntervalo(inicio, fim, cnpj.length);
+        return avaliar(cnpj, inicio, fim) == VALIDO;
+    }
+
+    /// Classifica o CNPJ representado pela sequência de caracteres.
+    ///
+    /// @param cnpj O CNPJ, com ou sem pontuação.
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    public static byte motivo(CharSequence cnpj) {
+        return avaliar(cnpj, 0, cnpj.length());
+    }
+
+    /// Classifica o CNPJ representado pela sequência de caracteres no formato informado.
+    ///
+    /// @param cnpj    O CNPJ, com ou sem pontuação.
+    /// @param formato O formato aceito.
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    public static byte motivo(CharSequence cnpj, Formato formato) {
+        return avaliar(cnpj, 0, cnpj.length(), formato.valores);
+    }
+
+    /// Classifica o CNPJ contido no intervalo '[inicio, fim)' do array de caracteres.
+    ///
+    /// @param cnpj   O array que contém o CNPJ.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do array.
+    public static byte motivo(char[] cnpj, int inicio, int fim) {
+        checarIntervalo(inicio, fim, cnpj.length);
+        return avaliar(cnpj, inicio, fim);
+    }
+
+    /// Classifica o CNPJ contido no intervalo '[inicio, fim)' do array de caracteres no formato informado.
+    ///
+    /// @param cnpj    O array que contém o CNPJ.
+    /// @param inicio  Índice inicial (inclusivo).
+    /// @param fim     Índice final (exclusivo).
+    /// @param formato O formato aceito.
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do array.
+    public static byte motivo(char[] cnpj, int inicio, int fim, Formato formato) {
+        checarIntervalo(inicio, fim, cnpj.length);
+        return avaliar(cnpj, inicio, fim, formato.valores);
+    }
+
+    /// Classifica o CNPJ contido no intervalo '[inicio, fim)' do array de bytes ASCII.
+    ///
+    /// @param cnpj   O array que contém o CNPJ codificado em ASCII.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do array.
+    public static byte motivo(byte[] cnpj, int inicio, int fim) {
+        checarIntervalo(inicio, fim, cnpj.length);
+        return avaliar(cnpj, inicio, fim);
+    }
+
+    /// Classifica o CNPJ contido no intervalo '[inicio, fim)' do array de bytes ASCII no formato informado.
+    ///
+    /// @param cnpj    O array que contém o CNPJ codificado em ASCII.
+    /// @param inicio  Índice inicial (inclusivo).
+    /// @param fim     Índice final (exclusivo).
+    /// @param formato O formato aceito.
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do array.
+    public static byte motivo(byte[] cnpj, int inicio, int fim, Formato formato) {
+        checarIntervalo(inicio, fim, cnpj.length);
+        return avaliar(cnpj, inicio, fim, formato.valores);
+    }
+
+    /// Classifica o CNPJ contido no intervalo '[inicio, fim)' de um buffer de bytes ASCII.
+    ///
+    /// Os bytes são lidos por acesso absoluto, sem alterar a posição do buffer; isso permite varrer diretamente
+    /// regiões de arquivos mapeados em memória.
+    ///
+    /// @param cnpj   O buffer que contém o CNPJ codificado em ASCII.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do buffer.
+    public static byte motivo(ByteBuffer cnpj, int inicio, int fim) {
+        checarIntervalo(inicio, fim, cnpj.limit());
+        return avaliar(cnpj, inicio, fim);
+    }
+
+    /// Classifica o CNPJ contido no intervalo '[inicio, fim)' de um buffer de bytes ASCII no formato informado.
+    ///
+    /// @param cnpj    O buffer que contém o CNPJ codificado em ASCII.
+    /// @param inicio  Índice inicial (inclusivo).
+    /// @param fim     Índice final (exclusivo).
+    /// @param formato O formato aceito.
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    /// @throws IndexOutOfBoundsException Se o intervalo estiver fora dos limites do buffer.
+    public static byte motivo(ByteBuffer cnpj, int inicio, int fim, Formato formato) {
+        checarIntervalo(inicio, fim, cnpj.limit());
+        return avaliar(cnpj, inicio, fim, formato.valores);
+    }
+
+    /// Percorre a sequência de caracteres uma única vez e classifica o CNPJ no formato numérico.
+    ///
+    /// @param cnpj   A sequência que contém o CNPJ.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return O motivo do resultado ('VALIDO' ou um dos motivos de rejeição).
+    static byte avaliar(CharSequence cnpj, int inicio, int fim) {
+        return avaliar(cnpj, inicio, fim, Formato.NUMERICO.valores);
+    }
+
+    /// Variante de [#avaliar(CharSequence, int, int)] que obtém o valor de cada caractere na tabela informada.
+    static byte avaliar(CharSequence cnpj, int inicio, int fim, byte[] valores) {
+        int posicoes = 0, soma1 = 0, soma2 = 0, dv1 = 0, dv2 = 0, primeiro = 0, valor;
+        boolean repetidos = true;
+
+        for (int i = inicio; i < fim; i++) {
+            char c = cnpj.charAt(i);
+
+            // Caracteres fora do ASCII, pontuação e demais caracteres sem valor são ignorados.
+            if (c >= valores.length || (valor = valores[c]) == IGNORAR) continue;
+
+            if (posicoes < TAMANHO_BASE) {
+                soma1 += valor * PESOS_PRIMEIRO_DV[posicoes];
+                soma2 += valor * PESOS_SEGUNDO_DV[posicoes];
+            } else if (posicoes == TAMANHO_BASE) {
+                dv1 = valor;
+            } else if (posicoes == TAMANHO_BASE + 1) {
+                dv2 = valor;
+            } else {
+                return TAMANHO_INCORRETO;
+            }
+
+            if (posicoes == 0) primeiro = valor;
+            else repetidos &= valor == primeiro;
+
+            posicoes++;
+        }
+
+        return concluir(posicoes, repetidos, soma1, soma2, dv1, dv2);
+    }
+
+    /// Percorre o intervalo do array de caracteres uma única vez e classifica o CNPJ no formato numérico.
+    ///
+    /// @param cnpj   O array que contém o CNPJ.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return O motivo do resultado ('VALIDO' ou um dos motivos de rejeição).
+    static byte avaliar(char[] cnpj, int inicio, int fim) {
+        return avaliar(cnpj, inicio, fim, Formato.NUMERICO.valores);
+    }
+
+    /// Variante de [#avaliar(char[], int, int)] que obtém o valor de cada caractere na tabela informada.
+    static byte avaliar(char[] cnpj, int inicio, int fim, byte[] valores) {
+        int posicoes = 0, soma1 = 0, soma2 = 0, dv1 = 0, dv2 = 0, primeiro = 0, valor;
+        boolean repetidos = true;
+
+        for (int i = inicio; i < fim; i++) {
+            char c = cnpj[i];
+
+            // Caracteres fora do ASCII, pontuação e demais caracteres sem valor são ignorados.
+            if (c >= valores.length || (valor = valores[c]) == IGNORAR) continue;
+
+            if (posicoes < TAMANHO_BASE) {
+                soma1 += valor * PESOS_PRIMEIRO_DV[posicoes];
+                soma2 += valor * PESOS_SEGUNDO_DV[posicoes];
+            } else if (posicoes == TAMANHO_BASE) {
+                dv1 = valor;
+            } else if (posicoes == TAMANHO_BASE + 1) {
+                dv2 = valor;
+            } else {
+                return TAMANHO_INCORRETO;
+            }
+
+            if (posicoes == 0) primeiro = valor;
+            else repetidos &= valor == primeiro;
+
+            posicoes++;
+        }
+
+        return concluir(posicoes, repetidos, soma1, soma2, dv1, dv2);
+    }
+
+    /// Percorre o intervalo do array de bytes ASCII uma única vez e classifica o CNPJ no formato numérico.
+    ///
+    /// @param cnpj   O array que contém o CNPJ codificado em ASCII.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return O motivo do resultado ('VALIDO' ou um dos motivos de rejeição).
+    static byte avaliar(byte[] cnpj, int inicio, int fim) {
+        return avaliar(cnpj, inicio, fim, Formato.NUMERICO.valores);
+    }
+
+    /// Variante de [#avaliar(byte[], int, int)] que obtém o valor de cada caractere na tabela informada.
+    static byte avaliar(byte[] cnpj, int inicio, int fim, byte[] valores) {
+        int posicoes = 0, soma1 = 0, soma2 = 0, dv1 = 0, dv2 = 0, primeiro = 0, valor;
+        boolean repetidos = true;
+
+        for (int i = inicio; i < fim; i++) {
+            int c = cnpj[i];
+
+            // Bytes fora do ASCII (negativos), pontuação e demais caracteres sem valor são ignorados.
+            if (c < 0 || (valor = valores[c]) == IGNORAR) continue;
+
+            if (posicoes < TAMANHO_BASE) {
+                soma1 += valor * PESOS_PRIMEIRO_DV[posicoes];
+                soma2 += valor * PESOS_SEGUNDO_DV[posicoes];
+            } else if (posicoes == TAMANHO_BASE) {
+                dv1 = valor;
+            } else if (posicoes == TAMANHO_BASE + 1) {
+                dv2 = valor;
+            } else {
+                return TAMANHO_INCORRETO;
+            }
+
+            if (posicoes == 0) primeiro = valor;
+            else repetidos &= valor == primeiro;
+
+            posicoes++;
+        }
+
+        return concluir(posicoes, repetidos, soma1, soma2, dv1, dv2);
+    }
+
+    /// Percorre o intervalo do buffer de bytes ASCII uma única vez e classifica o CNPJ no formato numérico.
+    ///
+    /// @param cnpj   O buffer que contém o CNPJ codificado em ASCII.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return O motivo do resultado ('VALIDO' ou um dos motivos de rejeição).
+    static byte avaliar(ByteBuffer cnpj, int inicio, int fim) {
+        return avaliar(cnpj, inicio, fim, Formato.NUMERICO.valores);
+    }
+
+    /// Variante de [#avaliar(ByteBuffer, int, int)] que obtém o valor de cada caractere na tabela informada.
+    static byte avaliar(ByteBuffer cnpj, int inicio, int fim, byte[] valores) {
+        int posicoes = 0, soma1 = 0, soma2 = 0, dv1 = 0, dv2 = 0, primeiro = 0, valor;
+        boolean repetidos = true;
+
+        for (int i = inicio; i < fim; i++) {
+            int c = cnpj.get(i);
+
+            // Bytes fora do ASCII (negativos), pontuação e demais caracteres sem valor são ignorados.
+            if (c < 0 || (valor = valores[c]) == IGNORAR) continue;
+
+            if (posicoes < TAMANHO_BASE) {
+                soma1 += valor * PESOS_PRIMEIRO_DV[posicoes];
+                soma2 += valor * PESOS_SEGUNDO_DV[posicoes];
+            } else if (posicoes == TAMANHO_BASE) {
+                dv1 = valor;
+            } else if (posicoes == TAMANHO_BASE + 1) {
+                dv2 = valor;
+            } else {
+                return TAMANHO_INCORRETO;
+            }
+
+            if (posicoes == 0) primeiro = valor;
+            else repetidos &= valor == primeiro;
+
+            posicoes++;
+        }
+
+        return concluir(posicoes, repetidos, soma1, soma2, dv1, dv2);
+    }
+
+    /// Finaliza a validação a partir do estado acumulado durante a varredura.
+    ///
+    /// O segundo dígito verificador é calculado sobre a base acrescida do primeiro dígito verificador calculado,
+    /// cujo peso é sempre '2'. Uma letra em uma posição de dígito verificador nunca confere, pois seu valor é maior
+    /// que 9.
+    ///
+    /// @param digitos   Quantidade de posições (dígitos ou letras) encontradas.
+    /// @param repetidos Indica se todas as posições encontradas têm o mesmo valor.
+    /// @param soma1     Soma ponderada da base com os pesos do primeiro dígito verificador.
+    /// @param soma2     Soma ponderada da base com os pesos do segundo dígito verificador.
+    /// @param dv1       Primeiro dígito verificador informado.
+    /// @param dv2       Segundo dígito verificador informado.
+    /// @return O motivo do resultado ('VALIDO' ou um dos motivos de rejeição).
+    static byte concluir(int digitos, boolean repetidos, int soma1, int soma2, int dv1, int dv2) {
+        if (digitos != TAMANHO_CNPJ) return TAMANHO_INCORRETO;
+        if (repetidos) return DIGITOS_REPETIDOS;
+
+        int primeiroDigito = digitoVerificador(soma1);
+        if (primeiroDigito != dv1) return PRIMEIRO_DV_INVALIDO;
+
+        int segundoDigito = digitoVerificador(soma2 + primeiroDigito * 2);
+        if (segundoDigito != dv2) return SEGUNDO_DV_INVALIDO;
+
+        return VALIDO;
+    }
+
+    /// Converte uma soma ponderada no dígito verificador correspondente.
+    ///
+    /// Se o resto da divisão por 11 for menor que 2, o dígito é 0; caso contrário, é 11 menos o resto.
+    ///
+    /// @param soma A soma ponderada.
+    /// @return O dígito verificador.
+    static int digitoVerificador(int soma) {
+        int resto = soma % 11;
+        return (resto < 2) ? 0 : 11 - resto;
+    }
+
+    /// Monta a tabela de valores dos caracteres ASCII.
+    ///
+    /// Dígitos valem de 0 a 9. Se 'letras' for 'true', as letras valem o código ASCII da maiúscula menos 48
+    /// ('A' = 17, ..., 'Z' = 42). Os demais caracteres são marcados como 'IGNORAR'.
+    ///
+    /// @param letras Indica se as letras fazem parte do CNPJ.
+    /// @return A tabela de 128 posições.
+    private static byte[] tabelaDeValores(boolean letras) {
+        byte[] valores = new byte[128];
+        Arrays.fill(valores, IGNORAR);
+
+        for (char c = '0'; c <= '9'; c++)
+            valores[c] = (byte) (c - '0');
+
+        if (letras) {
+            for (char c = 'A'; c <= 'Z'; c++) {
+                valores[c] = (byte) (c - '0');
+                valores[Character.toLowerCase(c)] = (byte) (c - '0');
+            }
+        }
+
+        return valores;
+    }
+
+    /// Verifica se o intervalo '[inicio, fim)' está contido em '[0, tamanho)'.
+    ///
+    /// @throws IndexOutOfBoundsException Se o intervalo for inválido.
+    private static void checarIntervalo(int inicio, int fim, int tamanho) {
+        if (inicio < 0 || fim < inicio || fim > tamanho)
+            throw new IndexOutOfBoundsException("Intervalo [" + inicio + ", " + fim + ") fora dos limites de " + tamanho);
+    }
+}
@@ -0,0 +1,373 @@
+package cnpj;
+
+import java.nio.ByteBuffer;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/// Geração de CNPJs e cálculo dos dígitos verificadores.
+///
+/// Expõe o cálculo dos dígitos verificadores do [CNPJEngine] para completar bases de 12 posições (numéricas ou
+/// alfanuméricas) e para sintetizar CNPJs válidos ou deliberadamente inválidos em grande volume, por exemplo para
+/// testes de carga.
+///
+/// Todos os métodos de escrita gravam diretamente em um 'char[]' ou [ByteBuffer] fornecido pelo chamador, sem criar
+/// 'String's intermediárias. Para gerar conjuntos de dados, [#sequenciais(long, long)], [#aleatorios(long, long)] e
+/// [#blocos(long, int, long)] devolvem fluxos apoiados em um [Spliterator] que se divide em intervalos de índices,
+/// permitindo a geração em paralelo.
+///
+/// Uma base numérica é um número entre '1' e '999999999999' que corresponde aos 12 primeiros dígitos do CNPJ. A base
+/// '0' é excluída, pois produziria "00000000000000", que é rejeitado por ter todos os dígitos iguais.
+public final class CNPJGerador {
+
+    /// Quantidade de bases numéricas distintas (10^12).
+    public static final long QUANTIDADE_BASES = 1_000_000_000_000L;
+
+    private CNPJGerador() {
+    }
+
+    /// Calcula os dois dígitos verificadores de uma base de 12 posições.
+    ///
+    /// A base pode conter dígitos e letras (formato alfanumérico), sem pontuação.
+    ///
+    /// @param base Os 12 primeiros caracteres do CNPJ.
+    /// @return Os dígitos verificadores no formato 'dv1 * 10 + dv2'.
+    /// @throws IllegalArgumentException Se a base não tiver 12 caracteres alfanuméricos.
+    public static int digitosVerificadores(CharSequence base) {
+        if (base.length() != CNPJEngine.TAMANHO_BASE)
+            throw new IllegalArgumentException("A base do CNPJ deve ter 12 caracteres.");
+
+        int soma1 = 0, soma2 = 0;
+
+        for (int i = 0; i < CNPJEngine.TAMANHO_BASE; i++) {
+            int valor = valor(base.charAt(i));
+            soma1 += valor * CNPJEngine.PESOS_PRIMEIRO_DV[i];
+            soma2 += valor * CNPJEngine.PESOS_SEGUNDO_DV[i];
+        }
+
+        return digitosVerificadores(soma1, soma2);
+    }
+
+    /// Calcula os dois dígitos verificadores de uma base numérica.
+    ///
+    /// @param base A base numérica, entre '0' e '999999999999'.
+    /// @return Os dígitos verificadores no formato 'dv1 * 10 + dv2'.
+    /// @throws IllegalArgumentException Se a base estiver fora do intervalo.
+    public static int digitosVerificadores(long base) {
+        checarBase(base);
+
+        int soma1 = 0, soma2 = 0;
+
+        for (int i = CNPJEngine.TAMANHO_BASE - 1; i >= 0; i--, base /= 10) {
+            int digito = (int) (base % 10);
+            soma1 += digito * CNPJEngine.PESOS_PRIMEIRO_DV[i];
+            soma2 += digito * CNPJEngine.PESOS_SEGUNDO_DV[i];
+        }
+
+        return digitosVerificadores(soma1, soma2);
+    }
+
+    /// Completa um CNPJ cuja base já está em 'cnpj[offset, offset + 12)', gravando os dígitos verificadores nas
+    /// posições 'offset + 12' e 'offset + 13'.
+    ///
+    /// @param cnpj   O array com a base do CNPJ.
+    /// @param offset Posição do primeiro caractere da base.
+    /// @throws IllegalArgumentException Se a base contiver caracteres não alfanuméricos.
+    public static void completar(char[] cnpj, int offset) {
+        int soma1 = 0, soma2 = 0;
+
+        for (int i = 0; i < CNPJEngine.TAMANHO_BASE; i++) {
+            int valor = valor(cnpj[offset + i]);
+            soma1 += valor * CNPJEngine.PESOS_PRIMEIRO_DV[i];
+            soma2 += valor * CNPJEngine.PESOS_SEGUNDO_DV[i];
+        }
+
+        int dvs = digitosVerificadores(soma1, soma2);
+        cnpj[offset + 12] = (char) ('0' + dvs / 10);
+        cnpj[offset + 13] = (char) ('0' + dvs % 10);
+    }
+
+    /// Completa um CNPJ cuja base já está nas posições absolutas '[offset, offset + 12)' do buffer, gravando os
+    /// dígitos verificadores em ASCII nas posições 'offset + 12' e 'offset + 13'. A posição do buffer não é alterada.
+    ///
+    /// @param cnpj   O buffer com a base do CNPJ em ASCII.
+    /// @param offset Posição do primeiro byte da base.
+    /// @throws IllegalArgumentException Se a base contiver caracteres não alfanuméricos.
+    public static void completar(ByteBuffer cnpj, int offset) {
+        int soma1 = 0, soma2 = 0;
+
+        for (int i = 0; i < CNPJEngine.TAMANHO_BASE; i++) {
+            int valor = valor((char) (cnpj.get(offset + i) & 0xFF));
+            soma1 += valor * CNPJEngine.PESOS_PRIMEIRO_DV[i];
+            soma2 += valor * CNPJEngine.PESOS_SEGUNDO_DV[i];
+        }
+
+        int dvs = digitosVerificadores(soma1, soma2);
+        cnpj.put(offset + 12, (byte) ('0' + dvs / 10));
+        cnpj.put(offset + 13, (byte) ('0' + dvs % 10));
+    }
+
+    /// Grava em 'destino[offset, offset + 14)' o CNPJ sem pontuação correspondente à base numérica.
+    ///
+    /// @param base    A base numérica, entre '0' e '999999999999'.
+    /// @param destino O array de destino.
+    /// @param offset  Posição do primeiro caractere a ser gravado.
+    /// @throws IllegalArgumentException Se a base estiver fora do intervalo.
+    public static void gerar(long base, char[] destino, int offset) {
+        int dvs = digitosVerificadores(base);
+
+        destino[offset + 13] = (char) ('0' + dvs % 10);
+        destino[offset + 12] = (char) ('0' + dvs / 10);
+
+        for (int i = offset + CNPJEngine.TAMANHO_BASE - 1; i >= offset; i--, base /= 10)
+            destino[i] = (char) ('0' + base % 10);
+    }
+
+    /// Grava em ASCII, em 'destino[offset, offset + 14)', o CNPJ sem pontuação correspondente à base numérica.
+    ///
+    /// @param base    A base numérica, entre '0' e '999999999999'.
+    /// @param destino O array de destino.
+    /// @param offset  Posição do primeiro byte a ser gravado.
+    /// @throws IllegalArgumentException Se a base estiver fora do intervalo.
+    public static void gerar(long base, byte[] destino, int offset) {
+        int dvs = digitosVerificadores(base);
+
+        destino[offset + 13] = (byte) ('0' + dvs % 10);
+        destino[offset + 12] = (byte) ('0' + dvs / 10);
+
+        for (int i = offset + CNPJEngine.TAMANHO_BASE - 1; i >= offset; i--, base /= 10)
+            destino[i] = (byte) ('0' + base % 10);
+    }
+
+    /// Grava em ASCII, nas posições absolutas '[offset, offset + 14)' do buffer, o CNPJ sem pontuação
+    /// correspondente à base numérica. A posição do buffer não é alterada.
+    ///
+    /// @param base    A base numérica, entre '0' e '999999999999'.
+    /// @param destino O buffer de destino.
+    /// @param offset  Posição do primeiro byte a ser gravado.
+    /// @throws IllegalArgumentException Se a base estiver fora do intervalo.
+    public static void gerar(long base, ByteBuffer destino, int offset) {
+        int dvs = digitosVerificadores(base);
+
+        destino.put(offset + 13, (byte) ('0' + dvs % 10));
+        destino.put(offset + 12, (byte) ('0' + dvs / 10));
+
+        for (int i = offset + CNPJEngine.TAMANHO_BASE - 1; i >= offset; i--, base /= 10)
+            destino.put(i, (byte) ('0' + base % 10));
+    }
+
+    /// Grava em 'destino[offset, offset + 14)' um CNPJ válido com base aleatória.
+    ///
+    /// @param random  O gerador de números aleatórios.
+    /// @param destino O array de destino.
+    /// @param offset  Posição do primeiro caractere a ser gravado.
+    public static void aleatorio(RandomGenerator random, char[] destino, int offset) {
+        gerar(random.nextLong(1, QUANTIDADE_BASES), destino, offset);
+    }
+
+    /// Grava em ASCII, nas posições absolutas '[offset, offset + 14)' do buffer, um CNPJ válido com base aleatória.
+    ///
+    /// @param random  O gerador de números aleatórios.
+    /// @param destino O buffer de destino.
+    /// @param offset  Posição do primeiro byte a ser gravado.
+    public static void aleatorio(RandomGenerator random, ByteBuffer destino, int offset) {
+        gerar(random.nextLong(1, QUANTIDADE_BASES), destino, offset);
+    }
+
+    /// Grava em 'destino[offset, offset + 14)' um CNPJ aleatório que o [CNPJEngine] classifica com o motivo informado.
+    ///
+    /// - [CNPJEngine#VALIDO]: um CNPJ válido.
+    /// - [CNPJEngine#TAMANHO_INCORRETO]: um CNPJ válido com uma posição trocada por '.', restando 13 dígitos.
+    /// - [CNPJEngine#DIGITOS_REPETIDOS]: 14 dígitos iguais.
+    /// - [CNPJEngine#PRIMEIRO_DV_INVALIDO]: um CNPJ válido com o primeiro dígito verificador alterado.
+    /// - [CNPJEngine#SEGUNDO_DV_INVALIDO]: um CNPJ válido com o segundo dígito verificador alterado.
+    ///
+    /// @param random  O gerador de números aleatórios.
+    /// @param motivo  O motivo desejado.
+    /// @param destino O array de destino.
+    /// @param offset  Posição do primeiro caractere a ser gravado.
+    /// @throws IllegalArgumentException Se o motivo for desconhecido.
+    public static void comMotivo(RandomGenerator random, byte motivo, char[] destino, int offset) {
+        switch (motivo) {
+            case CNPJEngine.VALIDO -> aleatorio(random, destino, offset);
+            case CNPJEngine.TAMANHO_INCORRETO -> {
+                aleatorio(random, destino, offset);
+                destino[offset + random.nextInt(CNPJEngine.TAMANHO_CNPJ)] = '.';
+            }
+            case CNPJEngine.DIGITOS_REPETIDOS -> {
+                char digito = (char) ('0' + random.nextInt(10));
+                for (int i = 0; i < CNPJEngine.TAMANHO_CNPJ; i++)
+                    destino[offset + i] = digito;
+            }
+            case CNPJEngine.PRIMEIRO_DV_INVALIDO, CNPJEngine.SEGUNDO_DV_INVALIDO -> {
+                aleatorio(random, destino, offset);
+
+                // Soma de 1 a 9 (módulo 10) ao dígito verificador: o resultado é sempre diferente do original.
+                int posicao = offset + (motivo == CNPJEngine.PRIMEIRO_DV_INVALIDO ? 12 : 13);
+                destino[posicao] = (char) ('0' + (destino[posicao] - '0' + random.nextInt(1, 10)) % 10);
+            }
+            default -> throw new IllegalArgumentException("Motivo desconhecido: " + motivo);
+        }
+    }
+
+    /// Cria um fluxo com os CNPJs válidos, sem pontuação, das bases '[primeiraBase, primeiraBase + quantidade)'.
+    ///
+    /// @param primeiraBase A primeira base numérica (a partir de '1').
+    /// @param quantidade   A quantidade de CNPJs.
+    /// @return Um fluxo ordenado, de tamanho conhecido e divisível em paralelo.
+    /// @throws IllegalArgumentException Se o intervalo de bases for inválido.
+    public static Stream<String> sequenciais(long primeiraBase, long quantidade) {
+        if (primeiraBase < 1 || quantidade < 0 || quantidade > QUANTIDADE_BASES - primeiraBase)
+            throw new IllegalArgumentException("Intervalo de bases inválido.");
+
+        return StreamSupport.stream(new Gerador<>(0, quantidade, 1, (indice, ignorado) -> {
+            char[] cnpj = new char[CNPJEngine.TAMANHO_CNPJ];
+            gerar(primeiraBase + indice, cnpj, 0);
+            return new String(cnpj);
+        }), false);
+    }
+
+    /// Cria um fluxo com CNPJs válidos, sem pontuação, de bases pseudoaleatórias.
+    ///
+    /// O CNPJ de cada posição depende apenas da semente e da posição, de modo que o resultado é o mesmo em
+    /// execuções sequenciais ou paralelas.
+    ///
+    /// @param quantidade A quantidade de CNPJs.
+    /// @param semente    A semente da geração.
+    /// @return Um fluxo ordenado, de tamanho conhecido e divisível em paralelo.
+    /// @throws IllegalArgumentException Se a quantidade for negativa.
+    public static Stream<String> aleatorios(long quantidade, long semente) {
+        if (quantidade < 0) throw new IllegalArgumentException("A quantidade não pode ser negativa.");
+
+        return StreamSupport.stream(new Gerador<>(0, quantidade, 1, (indice, ignorado) -> {
+            char[] cnpj = new char[CNPJEngine.TAMANHO_CNPJ];
+            gerar(baseAleatoria(semente, indice), cnpj, 0);
+            return new String(cnpj);
+        }), false);
+    }
+
+    /// Cria um fluxo de blocos de CNPJs válidos de bases pseudoaleatórias, no formato de registros normalizados de
+    /// [CNPJNormalizado] (14 bytes ASCII por CNPJ).
+    ///
+    /// Cada bloco contém 'cnpjsPorBloco' registros, exceto possivelmente o último. Nenhuma 'String' é criada.
+    ///
+    /// @param quantidade    A quantidade total de CNPJs.
+    /// @param cnpjsPorBloco A quantidade de CNPJs em cada bloco.
+    /// @param semente       A semente da geração.
+    /// @return Um fluxo ordenado, de tamanho conhecido e divisível em paralelo.
+    /// @throws IllegalArgumentException Se a quantidade for negativa ou o tamanho do bloco for inválido.
+    public static Stream<byte[]> blocos(long quantidade, int cnpjsPorBloco, long semente) {
+        if (quantidade < 0) throw new IllegalArgumentException("A quantidade não pode ser negativa.");
+        if (cnpjsPorBloco < 1 || cnpjsPorBloco > Integer.MAX_VALUE / CNPJEngine.TAMANHO_CNPJ)
+            throw new IllegalArgumentException("Tamanho de bloco inválido.");
+
+        return StreamSupport.stream(new Gerador<>(0, quantidade, cnpjsPorBloco, (indice, cnpjs) -> {
+            byte[] bloco = new byte[cnpjs * CNPJEngine.TAMANHO_CNPJ];
+
+            for (int i = 0; i < cnpjs; i++)
+                gerar(baseAleatoria(semente, indice + i), bloco, i * CNPJEngine.TAMANHO_CNPJ);
+
+            return bloco;
+        }), false);
+    }
+
+    /// Obtém o valor de um caractere alfanumérico da base.
+    ///
+    /// @throws IllegalArgumentException Se o caractere não for alfanumérico.
+    private static int valor(char c) {
+        byte[] valores = CNPJEngine.Formato.ALFANUMERICO.valores;
+
+        if (c >= valores.length || valores[c] == CNPJEngine.IGNORAR)
+            throw new IllegalArgumentException("Caractere inválido na base do CNPJ: '" + c + "'");
+
+        return valores[c];
+    }
+
+    /// Converte as somas ponderadas da base nos dois dígitos verificadores.
+    ///
+    /// @return Os dígitos verificadores no formato 'dv1 * 10 + dv2'.
+    private static int digitosVerificadores(int soma1, int soma2) {
+        int dv1 = CNPJEngine.digitoVerificador(soma1);
+        int dv2 = CNPJEngine.digitoVerificador(soma2 + dv1 * 2);
+
+        return dv1 * 10 + dv2;
+    }
+
+    /// Deriva uma base pseudoaleatória em '[1, 10^12)' a partir da semente e da posição (mistura do SplitMix64).
+    private static long baseAleatoria(long semente, long indice) {
+        long z = semente + (indice + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z ^= z >>> 31;
+
+        return 1 + Long.remainderUnsigned(z, QUANTIDADE_BASES - 1);
+    }
+
+    /// Verifica se a base numérica está em '[0, 10^12)'.
+    ///
+    /// @throws IllegalArgumentException Se a base estiver fora do intervalo.
+    private static void checarBase(long base) {
+        if (base < 0 || base >= QUANTIDADE_BASES)
+            throw new IllegalArgumentException("Base fora do intervalo [0, 999999999999]: " + base);
+    }
+
+    /// Cria o elemento que representa as posições '[indice, indice + quantidade)' do conjunto gerado.
+    @FunctionalInterface
+    private interface Fabrica<T> {
+        T criar(long indice, int quantidade);
+    }
+
+    /// [Spliterator] sobre um intervalo de posições '[indice, fim)', em que cada elemento cobre 'passo' posições.
+    ///
+    /// A divisão sempre ocorre em múltiplos de 'passo', para que os elementos das duas metades somem exatamente os
+    /// elementos do intervalo original.
+    private static final class Gerador<T> implements Spliterator<T> {
+
+        private long indice;
+        private final long fim;
+        private final int passo;
+        private final Fabrica<T> fabrica;
+
+        Gerador(long indice, long fim, int passo, Fabrica<T> fabrica) {
+            this.indice = indice;
+            this.fim = fim;
+            this.passo = passo;
+            this.fabrica = fabrica;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (indice >= fim) return false;
+
+            int quantidade = (int) Math.min(passo, fim - indice);
+            action.accept(fabrica.criar(indice, quantidade));
+            indice += quantidade;
+
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            long elementos = estimateSize();
+            if (elementos < 2) return null;
+
+            long meio = indice + (elementos >>> 1) * passo;
+            Gerador<T> prefixo = new Gerador<>(indice, meio, passo, fabrica);
+            indice = meio;
+
+            return prefixo;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (fim - indice + passo - 1) / passo;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
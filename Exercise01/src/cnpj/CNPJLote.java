@@ -0,0 +1,181 @@
+package cnpj;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Stream;
+
+/// Validação de CNPJs em lote.
+///
+/// Cada entrada é classificada pelo [CNPJEngine] e o resultado é devolvido em um vetor compacto ([Resultado]):
+/// um [BitSet] com as posições válidas e um 'byte' por entrada com o motivo da classificação
+/// ([CNPJEngine#VALIDO], [CNPJEngine#TAMANHO_INCORRETO], [CNPJEngine#DIGITOS_REPETIDOS],
+/// [CNPJEngine#PRIMEIRO_DV_INVALIDO] ou [CNPJEngine#SEGUNDO_DV_INVALIDO]).
+///
+/// Lotes grandes são divididos em blocos e processados em paralelo com fork-join. Os blocos são alinhados a
+/// múltiplos de 64 entradas, de modo que cada tarefa escreve palavras próprias do [BitSet] e nenhuma sincronização
+/// é necessária entre elas. Nenhuma mensagem é escrita em 'System.err': o motivo de cada rejeição fica registrado
+/// no resultado.
+public final class CNPJLote {
+
+    /// Quantidade de entradas abaixo da qual um bloco é processado sequencialmente (múltiplo de 64).
+    static final int LIMIAR_SEQUENCIAL = 8192;
+
+    private CNPJLote() {
+    }
+
+    /// Valida uma lista de CNPJs usando o pool comum de fork-join.
+    ///
+    /// Listas sem acesso aleatório eficiente (como 'LinkedList') são copiadas para um array antes da divisão.
+    ///
+    /// @param cnpjs Os CNPJs a serem validados, com ou sem pontuação.
+    /// @return O resultado da validação, na mesma ordem da lista.
+    public static Resultado validar(List<? extends CharSequence> cnpjs) {
+        return validar(cnpjs, ForkJoinPool.commonPool());
+    }
+
+    /// Valida uma lista de CNPJs usando o pool de fork-join informado.
+    ///
+    /// @param cnpjs Os CNPJs a serem validados, com ou sem pontuação.
+    /// @param pool  O pool onde as tarefas serão executadas.
+    /// @return O resultado da validação, na mesma ordem da lista.
+    public static Resultado validar(List<? extends CharSequence> cnpjs, ForkJoinPool pool) {
+        if (!(cnpjs instanceof RandomAccess)) return validar(cnpjs.toArray(CharSequence[]::new), pool);
+
+        return executar(cnpjs.size(), cnpjs::get, pool);
+    }
+
+    /// Valida um array de CNPJs usando o pool comum de fork-join.
+    ///
+    /// @param cnpjs Os CNPJs a serem validados, com ou sem pontuação.
+    /// @return O resultado da validação, na mesma ordem do array.
+    public static Resultado validar(CharSequence[] cnpjs) {
+        return validar(cnpjs, ForkJoinPool.commonPool());
+    }
+
+    /// Valida um array de CNPJs usando o pool de fork-join informado.
+    ///
+    /// @param cnpjs Os CNPJs a serem validados, com ou sem pontuação.
+    /// @param pool  O pool onde as tarefas serão executadas.
+    /// @return O resultado da validação, na mesma ordem do array.
+    public static Resultado validar(CharSequence[] cnpjs, ForkJoinPool pool) {
+        return executar(cnpjs.length, i -> cnpjs[i], pool);
+    }
+
+    /// Valida um fluxo de CNPJs usando o pool comum de fork-join.
+    ///
+    /// O fluxo é consumido uma única vez; apenas as referências são reunidas em um array para que o lote possa ser
+    /// dividido entre os núcleos preservando a ordem de encontro.
+    ///
+    /// @param cnpjs O fluxo de CNPJs a serem validados, com ou sem pontuação.
+    /// @return O resultado da validação, na ordem de encontro do fluxo.
+    public static Resultado validar(Stream<? extends CharSequence> cnpjs) {
+        return validar(cnpjs.toArray(CharSequence[]::new), ForkJoinPool.commonPool());
+    }
+
+    /// Classifica todas as entradas e monta o resultado.
+    ///
+    /// @param quantidade Quantidade de entradas.
+    /// @param entradas   Acesso indexado às entradas.
+    /// @param pool       O pool onde as tarefas serão executadas.
+    /// @return O resultado da validação.
+    private static Resultado executar(int quantidade, Entradas entradas, ForkJoinPool pool) {
+        byte[] motivos = new byte[quantidade];
+        long[] validos = new long[(quantidade + 63) >>> 6];
+
+        if (quantidade <= LIMIAR_SEQUENCIAL) new Tarefa(entradas, motivos, validos, 0, quantidade).compute();
+        else pool.invoke(new Tarefa(entradas, motivos, validos, 0, quantidade));
+
+        return new Resultado(BitSet.valueOf(validos), motivos);
+    }
+
+    /// Acesso indexado às entradas do lote, independente da estrutura de origem.
+    @FunctionalInterface
+    private interface Entradas {
+        CharSequence get(int indice);
+    }
+
+    /// Tarefa de fork-join que classifica o intervalo '[inicio, fim)' do lote.
+    ///
+    /// 'inicio' é sempre múltiplo de 64, de forma que as palavras de 'validos' escritas por tarefas distintas
+    /// nunca se sobrepõem.
+    private static final class Tarefa extends RecursiveAction {
+
+        private final Entradas entradas;
+        private final byte[] motivos;
+        private final long[] validos;
+        private final int inicio, fim;
+
+        Tarefa(Entradas entradas, byte[] motivos, long[] validos, int inicio, int fim) {
+            this.entradas = entradas;
+            this.motivos = motivos;
+            this.validos = validos;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR_SEQUENCIAL) {
+                processar();
+                return;
+            }
+
+            // Divide ao meio, arredondando o ponto de corte para um múltiplo de 64.
+            int meio = (inicio + ((fim - inicio) >>> 1)) & ~63;
+
+            invokeAll(
+                    new Tarefa(entradas, motivos, validos, inicio, meio),
+                    new Tarefa(entradas, motivos, validos, meio, fim)
+            );
+        }
+
+        private void processar() {
+            for (int i = inicio; i < fim; i++) {
+                byte motivo = CNPJEngine.motivo(entradas.get(i));
+                motivos[i] = motivo;
+
+                if (motivo == CNPJEngine.VALIDO) validos[i >>> 6] |= 1L << i;
+            }
+        }
+    }
+
+    /// Resultado de uma validação em lote.
+    ///
+    /// @param validos Conjunto com as posições das entradas válidas.
+    /// @param motivos Motivo da classificação de cada entrada, na mesma ordem da entrada.
+    public record Resultado(BitSet validos, byte[] motivos) {
+
+        /// Retorna a quantidade de entradas do lote.
+        ///
+        /// @return A quantidade de entradas.
+        public int quantidade() {
+            return motivos.length;
+        }
+
+        /// Retorna a quantidade de entradas válidas.
+        ///
+        /// @return A quantidade de CNPJs válidos.
+        public int quantidadeValidos() {
+            return validos.cardinality();
+        }
+
+        /// Verifica se a entrada na posição informada é válida.
+        ///
+        /// @param indice A posição da entrada.
+        /// @return 'true' se o CNPJ da posição for válido; caso contrário, 'false'.
+        public boolean isValido(int indice) {
+            return motivos[indice] == CNPJEngine.VALIDO;
+        }
+
+        /// Retorna o motivo da classificação da entrada na posição informada.
+        ///
+        /// @param indice A posição da entrada.
+        /// @return 'VALIDO' ou o motivo da rejeição.
+        public byte motivo(int indice) {
+            return motivos[indice];
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package cnpj;
+
+/// Validação de lotes de CNPJs pré-normalizados.
+///
+/// Um lote pré-normalizado é um 'byte[]' com registros de tamanho fixo: cada CNPJ ocupa exatamente 14 bytes ASCII
+/// consecutivos, sem pontuação e sem separadores. Essa é a forma mais barata de alimentar validações em massa, pois
+/// cada registro começa em uma posição conhecida ('indice * 14').
+///
+/// O motor é escolhido uma única vez, na inicialização da classe:
+///
+/// - Se o módulo 'jdk.incubator.vector' estiver disponível (JVM iniciada com
+///   '--add-modules jdk.incubator.vector'), é usado o [CNPJVetorial], que converte os dígitos e calcula os produtos
+///   ponderados em lanes SIMD.
+/// - Caso contrário, ou se a propriedade de sistema 'cnpj.vetorial' for 'false', é usado o motor escalar do
+///   [CNPJEngine].
+///
+/// Ambos os motores produzem exatamente os mesmos motivos de [CNPJEngine#motivo(byte[], int, int)].
+public final class CNPJNormalizado {
+
+    /// Nome do módulo que contém a Vector API.
+    private static final String MODULO_VETORIAL = "jdk.incubator.vector";
+
+    /// Estratégia de validação de um intervalo de registros normalizados.
+    interface Motor {
+
+        /// Valida os registros '[inicio, fim)' e grava o motivo de cada um em 'motivos'.
+        ///
+        /// @param registros Os registros normalizados (14 bytes por CNPJ).
+        /// @param inicio    Índice do primeiro registro (inclusivo).
+        /// @param fim       Índice do último registro (exclusivo).
+        /// @param motivos   Destino dos motivos, indexado pelo número do registro.
+        void validar(byte[] registros, int inicio, int fim, byte[] motivos);
+    }
+
+    /// Motor escalar, baseado no [CNPJEngine].
+    static final Motor ESCALAR = (registros, inicio, fim, motivos) -> {
+        for (int i = inicio, deslocamento = inicio * CNPJEngine.TAMANHO_CNPJ; i < fim; i++) {
+            motivos[i] = CNPJEngine.avaliar(registros, deslocamento, deslocamento + CNPJEngine.TAMANHO_CNPJ);
+            deslocamento += CNPJEngine.TAMANHO_CNPJ;
+        }
+    };
+
+    /// Motor selecionado para esta JVM.
+    private static final Motor MOTOR = selecionarMotor();
+
+    private CNPJNormalizado() {
+    }
+
+    /// Valida todos os registros do lote.
+    ///
+    /// @param registros Os registros normalizados (14 bytes por CNPJ).
+    /// @return O motivo de cada registro, na ordem do lote.
+    /// @throws IllegalArgumentException Se o tamanho do array não for múltiplo de 14.
+    public static byte[] validar(byte[] registros) {
+        if (registros.length % CNPJEngine.TAMANHO_CNPJ != 0)
+            throw new IllegalArgumentException("O lote deve conter registros de exatamente 14 bytes.");
+
+        byte[] motivos = new byte[registros.length / CNPJEngine.TAMANHO_CNPJ];
+        MOTOR.validar(registros, 0, motivos.length, motivos);
+
+        return motivos;
+    }
+
+    /// Valida os registros '[inicio, fim)' do lote, gravando os motivos em um array fornecido pelo chamador.
+    ///
+    /// @param registros Os registros normalizados (14 bytes por CNPJ).
+    /// @param inicio    Índice do primeiro registro (inclusivo).
+    /// @param fim       Índice do último registro (exclusivo).
+    /// @param motivos   Destino dos motivos, indexado pelo número do registro.
+    /// @throws IndexOutOfBoundsException Se o intervalo exceder o lote ou o array de motivos.
+    public static void validar(byte[] registros, int inicio, int fim, byte[] motivos) {
+        if (inicio < 0 || fim < inicio || fim > motivos.length || (long) fim * CNPJEngine.TAMANHO_CNPJ > registros.length)
+            throw new IndexOutOfBoundsException("Intervalo de registros [" + inicio + ", " + fim + ") inválido.");
+
+        MOTOR.validar(registros, inicio, fim, motivos);
+    }
+
+    /// Indica se o motor vetorial está em uso nesta JVM.
+    ///
+    /// @return 'true' se a Vector API foi detectada e selecionada; caso contrário, 'false'.
+    public static boolean isVetorial() {
+        return MOTOR != ESCALAR;
+    }
+
+    /// Seleciona o motor vetorial quando a Vector API está disponível, ou o escalar caso contrário.
+    ///
+    /// @return O motor a ser usado.
+    private static Motor selecionarMotor() {
+        if (!Boolean.parseBoolean(System.getProperty("cnpj.vetorial", "true"))) return ESCALAR;
+        if (ModuleLayer.boot().findModule(MODULO_VETORIAL).isEmpty()) return ESCALAR;
+
+        try {
+            return new CNPJVetorial();
+        } catch (LinkageError | RuntimeException ignored) {
+            // A Vector API está presente, mas não pôde ser carregada nesta plataforma.
+            return ESCALAR;
+        }
+    }
+}
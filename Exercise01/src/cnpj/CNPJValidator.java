@@ -0,0 +1,50 @@
+package cnpj;
+
+/// Classe responsável por realizar a validação de um CNPJ.
+///
+/// Esta classe não faz uso de bibliotecas externas, implementando manualmente a
+/// lógica de validação conforme os critérios estabelecidos pela Receita Federal.
+/// O CNPJ pode ser validado tanto no formato com pontuações, como "00.000.000/0000-00",
+/// quanto no formato sem pontuações, como "00000000000000".
+///
+/// O principal objetivo é verificar se o CNPJ é válido, analisando seu tamanho, a
+/// estrutura numérica, e calculando os dígitos verificadores.
+///
+/// A lógica principal, implementada em [CNPJEngine], é dividida em:
+/// - Descarte de caracteres não numéricos.
+/// - Verificação de tamanho correto.
+/// - Cálculo dos dígitos verificadores.
+/// - Comparação dos dígitos calculados com os dígitos fornecidos.
+/// - Fonte: [...](https://www.macoratti.net/alg_cnpj.htm)
+public class CNPJValidator {
+
+    /// Metodo principal para validar o CNPJ.
+    ///
+    /// Este metodo realiza a validação completa de um CNPJ, verificando:
+    /// - Se contém apenas números.
+    /// - Se possui exatamente 14 dígitos.
+    /// - Se os dígitos verificadores estão corretos.
+    ///
+    /// Mantido por compatibilidade: a validação é delegada ao [CNPJEngine], que percorre a string uma única vez
+    /// sem expressões regulares, substrings ou concatenações. O motivo de uma rejeição pode ser obtido com
+    /// [CNPJEngine#motivo(CharSequence)].
+    ///
+    /// @param cnpj Uma string representando o CNPJ a ser validado.
+    /// Pode estar no formato "00.000.000/0000-00" ou "00000000000000".
+    /// @return true se o CNPJ for válido, false caso contrário.
+    public static boolean validarCNPJ(String cnpj) {
+        return CNPJEngine.isValido(cnpj);
+    }
+
+    /// Valida o CNPJ no formato informado.
+    ///
+    /// Com [CNPJEngine.Formato#ALFANUMERICO], aceita tanto os CNPJs numéricos quanto os alfanuméricos emitidos a
+    /// partir de julho de 2026, como "12.ABC.345/01DE-35".
+    ///
+    /// @param cnpj    Uma string representando o CNPJ a ser validado, com ou sem pontuação.
+    /// @param formato O formato aceito.
+    /// @return true se o CNPJ for válido, false caso contrário.
+    public static boolean validarCNPJ(String cnpj, CNPJEngine.Formato formato) {
+        return CNPJEngine.isValido(cnpj, formato);
+    }
+}
@@ -0,0 +1,89 @@
+package cnpj;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+import static jdk.incubator.vector.VectorOperators.ADD;
+import static jdk.incubator.vector.VectorOperators.B2S;
+import static jdk.incubator.vector.VectorOperators.EQ;
+import static jdk.incubator.vector.VectorOperators.UNSIGNED_GT;
+
+/// Motor vetorial para lotes de CNPJs pré-normalizados, baseado na Vector API ('jdk.incubator.vector').
+///
+/// Cada registro de 14 bytes é carregado em um vetor de 128 bits (16 lanes de 'byte'). A conversão de ASCII para
+/// dígito, a verificação de que todos os caracteres são dígitos e a detecção de dígitos repetidos são feitas em uma
+/// única operação por lane. Os dígitos são então alargados para 'short' em duas metades de 8 lanes, multiplicados
+/// pelas tabelas de pesos e somados por redução, produzindo as duas somas ponderadas sem nenhum laço escalar.
+///
+/// As lanes 14 e 15 (que pertencem ao registro seguinte, ou ficam zeradas no último registro) recebem peso '0'.
+/// A finalização (módulo 11 e comparação dos dígitos verificadores) é a mesma do [CNPJEngine].
+///
+/// Esta classe só deve ser carregada quando o módulo 'jdk.incubator.vector' estiver disponível; a seleção é feita
+/// por [CNPJNormalizado].
+final class CNPJVetorial implements CNPJNormalizado.Motor {
+
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_128;
+    private static final VectorSpecies<Short> SHORTS = ShortVector.SPECIES_128;
+
+    /// Máscara das 14 lanes que compõem um CNPJ.
+    private static final VectorMask<Byte> CNPJ = BYTES.indexInRange(0, CNPJEngine.TAMANHO_CNPJ);
+
+    /// Pesos do primeiro dígito verificador: posições 0 a 7 e 8 a 15.
+    private static final ShortVector PESOS_PRIMEIRO_DV_BAIXO = pesos(5, 4, 3, 2, 9, 8, 7, 6);
+    private static final ShortVector PESOS_PRIMEIRO_DV_ALTO = pesos(5, 4, 3, 2, 0, 0, 0, 0);
+
+    /// Pesos do segundo dígito verificador sobre a base: posições 0 a 7 e 8 a 15.
+    ///
+    /// O peso da 13ª posição é aplicado ao primeiro dígito verificador calculado, como no [CNPJEngine].
+    private static final ShortVector PESOS_SEGUNDO_DV_BAIXO = pesos(6, 5, 4, 3, 2, 9, 8, 7);
+    private static final ShortVector PESOS_SEGUNDO_DV_ALTO = pesos(6, 5, 4, 3, 0, 0, 0, 0);
+
+    @Override
+    public void validar(byte[] registros, int inicio, int fim, byte[] motivos) {
+        int deslocamento = inicio * CNPJEngine.TAMANHO_CNPJ;
+
+        for (int i = inicio; i < fim; i++, deslocamento += CNPJEngine.TAMANHO_CNPJ) {
+            // Os dois bytes extras só podem ser lidos se ainda estiverem dentro do array.
+            ByteVector ascii = deslocamento + BYTES.length() <= registros.length
+                    ? ByteVector.fromArray(BYTES, registros, deslocamento)
+                    : ByteVector.fromArray(BYTES, registros, deslocamento, CNPJ);
+
+            motivos[i] = avaliar(ascii, registros[deslocamento + 12] - '0', registros[deslocamento + 13] - '0');
+        }
+    }
+
+    /// Classifica um único registro já carregado em um vetor.
+    ///
+    /// @param ascii Os bytes ASCII do registro nas lanes 0 a 13.
+    /// @param dv1   Primeiro dígito verificador informado.
+    /// @param dv2   Segundo dígito verificador informado.
+    /// @return 'VALIDO' ou o motivo da rejeição.
+    private static byte avaliar(ByteVector ascii, int dv1, int dv2) {
+        ByteVector digitos = ascii.sub((byte) '0');
+
+        // Um caractere não numérico deixaria menos de 14 dígitos após a normalização.
+        if (digitos.compare(UNSIGNED_GT, (byte) 9, CNPJ).anyTrue()) return CNPJEngine.TAMANHO_INCORRETO;
+
+        boolean repetidos = digitos.compare(EQ, digitos.lane(0), CNPJ).trueCount() == CNPJEngine.TAMANHO_CNPJ;
+
+        ShortVector baixo = (ShortVector) digitos.convertShape(B2S, SHORTS, 0);
+        ShortVector alto = (ShortVector) digitos.convertShape(B2S, SHORTS, 1);
+
+        int soma1 = baixo.mul(PESOS_PRIMEIRO_DV_BAIXO).add(alto.mul(PESOS_PRIMEIRO_DV_ALTO)).reduceLanes(ADD);
+        int soma2 = baixo.mul(PESOS_SEGUNDO_DV_BAIXO).add(alto.mul(PESOS_SEGUNDO_DV_ALTO)).reduceLanes(ADD);
+
+        return CNPJEngine.concluir(CNPJEngine.TAMANHO_CNPJ, repetidos, soma1, soma2, dv1, dv2);
+    }
+
+    /// Cria um vetor de pesos de 8 lanes.
+    private static ShortVector pesos(int... pesos) {
+        short[] lanes = new short[SHORTS.length()];
+
+        for (int i = 0; i < pesos.length; i++)
+            lanes[i] = (short) pesos[i];
+
+        return ShortVector.fromArray(SHORTS, lanes, 0);
+    }
+}
@@ -0,0 +1,174 @@
+package cnpj;
+
+/// CNPJ numérico representado pelos seus 14 dígitos empacotados em um único 'long'.
+///
+/// O valor empacotado é o número formado pelos 14 dígitos ('12.345.678/0001-95' vale '12345678000195'), sempre no
+/// intervalo '[0, 10^14)'. Cada instância ocupa apenas o cabeçalho do objeto e um 'long', contra cerca de 60 bytes
+/// de uma 'String' equivalente; coleções grandes devem preferir os valores primitivos diretamente, com [CnpjSet],
+/// [CnpjMap] e [CnpjSort].
+///
+/// A ordem natural coincide com a ordem lexicográfica da forma sem pontuação. Um 'Cnpj' não é necessariamente
+/// válido: use [#isValido()] ou crie a instância com [#parse(CharSequence)], que rejeita CNPJs inválidos.
+///
+/// @param valor O valor numérico dos 14 dígitos.
+public record Cnpj(long valor) implements Comparable<Cnpj> {
+
+    /// Limite superior (exclusivo) dos valores empacotados (10^14).
+    public static final long LIMITE = 100_000_000_000_000L;
+
+    /// Valor devolvido por [#empacotar(CharSequence)] quando a entrada não tem exatamente 14 dígitos.
+    public static final long NENHUM = -1;
+
+    /// Construtor canônico que valida o intervalo do valor.
+    ///
+    /// @throws IllegalArgumentException Se o valor estiver fora de '[0, 10^14)'.
+    public Cnpj {
+        if (valor < 0 || valor >= LIMITE) throw new IllegalArgumentException("Valor de CNPJ fora do intervalo: " + valor);
+    }
+
+    /// Converte um CNPJ, com ou sem pontuação, validando seus dígitos verificadores.
+    ///
+    /// @param cnpj O CNPJ a ser convertido.
+    /// @return O CNPJ empacotado.
+    /// @throws IllegalArgumentException Se o CNPJ for inválido.
+    public static Cnpj parse(CharSequence cnpj) {
+        byte motivo = CNPJEngine.motivo(cnpj);
+        if (motivo != CNPJEngine.VALIDO)
+            throw new IllegalArgumentException("CNPJ inválido (motivo " + motivo + "): " + cnpj);
+
+        return new Cnpj(empacotar(cnpj));
+    }
+
+    /// Empacota os dígitos de um CNPJ em um 'long', ignorando a pontuação e sem validar os dígitos verificadores.
+    ///
+    /// Não aloca objetos; é a forma indicada para carregar grandes volumes em [CnpjSet], [CnpjMap] ou arrays.
+    ///
+    /// @param cnpj O CNPJ, com ou sem pontuação.
+    /// @return O valor dos 14 dígitos, ou [#NENHUM] se a entrada não tiver exatamente 14 dígitos.
+    public static long empacotar(CharSequence cnpj) {
+        long valor = 0;
+        int digitos = 0;
+
+        for (int i = 0, tamanho = cnpj.length(); i < tamanho; i++) {
+            int digito = cnpj.charAt(i) - '0';
+            if (digito < 0 || digito > 9) continue;
+            if (++digitos > CNPJEngine.TAMANHO_CNPJ) return NENHUM;
+
+            valor = valor * 10 + digito;
+        }
+
+        return digitos == CNPJEngine.TAMANHO_CNPJ ? valor : NENHUM;
+    }
+
+    /// Empacota os dígitos de um CNPJ contido em 'cnpj[inicio, fim)' (bytes ASCII), ignorando a pontuação.
+    ///
+    /// @param cnpj   O array que contém o CNPJ.
+    /// @param inicio Índice inicial (inclusivo).
+    /// @param fim    Índice final (exclusivo).
+    /// @return O valor dos 14 dígitos, ou [#NENHUM] se o intervalo não tiver exatamente 14 dígitos.
+    public static long empacotar(byte[] cnpj, int inicio, int fim) {
+        long valor = 0;
+        int digitos = 0;
+
+        for (int i = inicio; i < fim; i++) {
+            int digito = cnpj[i] - '0';
+            if (digito < 0 || digito > 9) continue;
+            if (++digitos > CNPJEngine.TAMANHO_CNPJ) return NENHUM;
+
+            valor = valor * 10 + digito;
+        }
+
+        return digitos == CNPJEngine.TAMANHO_CNPJ ? valor : NENHUM;
+    }
+
+    /// Verifica se o valor empacotado corresponde a um CNPJ válido.
+    ///
+    /// @param valor O valor dos 14 dígitos.
+    /// @return 'true' se o CNPJ for válido; caso contrário, 'false'.
+    public static boolean isValido(long valor) {
+        if (valor < 0 || valor >= LIMITE) return false;
+
+        int dvs = (int) (valor % 100);
+        long base = valor / 100;
+
+        // Apenas a base '0' gera um CNPJ com todos os dígitos iguais ("00000000000000").
+        return base != 0 && CNPJGerador.digitosVerificadores(base) == dvs;
+    }
+
+    /// Verifica se este CNPJ é válido.
+    ///
+    /// @return 'true' se os dígitos verificadores conferem e os dígitos não são todos iguais.
+    public boolean isValido() {
+        return isValido(valor);
+    }
+
+    /// Retorna a raiz do CNPJ (os 8 primeiros dígitos, que identificam a empresa).
+    ///
+    /// @return A raiz, entre '0' e '99999999'.
+    public int raiz() {
+        return (int) (valor / 1_000_000);
+    }
+
+    /// Retorna o número do estabelecimento (os 4 dígitos após a raiz; '0001' é a matriz).
+    ///
+    /// @return O número do estabelecimento, entre '0' e '9999'.
+    public int filial() {
+        return (int) (valor / 100 % 10_000);
+    }
+
+    /// Retorna os dois dígitos verificadores informados.
+    ///
+    /// @return Os dígitos verificadores no formato 'dv1 * 10 + dv2'.
+    public int digitosVerificadores() {
+        return (int) (valor % 100);
+    }
+
+    /// Grava o CNPJ formatado ('00.000.000/0000-00') em 'destino[offset, offset + 18)', sem alocar objetos.
+    ///
+    /// @param destino O array de destino.
+    /// @param offset  Posição do primeiro caractere a ser gravado.
+    public void formatar(char[] destino, int offset) {
+        long restante = valor;
+
+        for (int i = 17; i >= 0; i--) {
+            switch (i) {
+                case 15 -> destino[offset + i] = '-';
+                case 10 -> destino[offset + i] = '/';
+                case 2, 6 -> destino[offset + i] = '.';
+                default -> {
+                    destino[offset + i] = (char) ('0' + restante % 10);
+                    restante /= 10;
+                }
+            }
+        }
+    }
+
+    /// Retorna o CNPJ sem pontuação, com os 14 dígitos.
+    ///
+    /// @return O CNPJ no formato '00000000000000'.
+    public String digitos() {
+        char[] digitos = new char[CNPJEngine.TAMANHO_CNPJ];
+        long restante = valor;
+
+        for (int i = digitos.length - 1; i >= 0; i--, restante /= 10)
+            digitos[i] = (char) ('0' + restante % 10);
+
+        return new String(digitos);
+    }
+
+    /// Compara os CNPJs pelo valor numérico.
+    @Override
+    public int compareTo(Cnpj outro) {
+        return Long.compare(valor, outro.valor);
+    }
+
+    /// Retorna o CNPJ formatado.
+    ///
+    /// @return O CNPJ no formato '00.000.000/0000-00'.
+    @Override
+    public String toString() {
+        char[] formatado = new char[18];
+        formatar(formatado, 0);
+        return new String(formatado);
+    }
+}
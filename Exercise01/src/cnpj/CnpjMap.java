@@ -0,0 +1,189 @@
+package cnpj;
+
+import java.util.Arrays;
+
+/// Mapa de CNPJs empacotados (ver [Cnpj]) para valores 'int', com endereçamento aberto.
+///
+/// Chaves e valores ficam em dois arrays primitivos paralelos, sem objetos por entrada. É indicado para junções de
+/// listas grandes (CNPJ → índice da linha) e contagens (CNPJ → ocorrências). Usa a mesma tabela de [CnpjSet]:
+/// sondagem linear, remoção por deslocamento para trás e ocupação máxima de 3/4.
+///
+/// Esta classe não é segura para uso concorrente.
+public final class CnpjMap {
+
+    private long[] chaves;
+    private int[] valores;
+    private int mascara;
+    private int tamanho;
+    private int limite;
+
+    /// Recebe cada par CNPJ → valor de [#paraCada(Consumidor)].
+    @FunctionalInterface
+    public interface Consumidor {
+        void aceitar(long cnpj, int valor);
+    }
+
+    /// Cria um mapa vazio com capacidade inicial padrão.
+    public CnpjMap() {
+        this(16);
+    }
+
+    /// Cria um mapa vazio capaz de receber a quantidade informada de CNPJs sem redimensionar.
+    ///
+    /// @param capacidade A quantidade esperada de CNPJs.
+    /// @throws IllegalArgumentException Se a capacidade for negativa ou grande demais.
+    public CnpjMap(int capacidade) {
+        if (capacidade < 0 || capacidade > 3 << 28) throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+
+        alocar(CnpjSet.tamanhoDaTabela(capacidade));
+    }
+
+    /// Associa o valor ao CNPJ, substituindo o valor anterior, se houver.
+    ///
+    /// @param cnpj  O valor empacotado do CNPJ.
+    /// @param valor O valor a ser associado.
+    /// @param padrao O valor devolvido se o CNPJ ainda não estava no mapa.
+    /// @return O valor anterior, ou 'padrao' se o CNPJ não estava no mapa.
+    /// @throws IllegalArgumentException Se o CNPJ estiver fora de '[0, 10^14)'.
+    public int colocar(long cnpj, int valor, int padrao) {
+        int i = posicao(CnpjSet.chave(cnpj));
+
+        if (chaves[i] != CnpjSet.VAZIA) {
+            int anterior = valores[i];
+            valores[i] = valor;
+            return anterior;
+        }
+
+        inserir(i, cnpj + 1, valor);
+        return padrao;
+    }
+
+    /// Soma 'delta' ao valor associado ao CNPJ, considerando '0' se o CNPJ não estava no mapa.
+    ///
+    /// @param cnpj  O valor empacotado do CNPJ.
+    /// @param delta O valor a ser somado.
+    /// @return O novo valor associado ao CNPJ.
+    /// @throws IllegalArgumentException Se o CNPJ estiver fora de '[0, 10^14)'.
+    public int somar(long cnpj, int delta) {
+        int i = posicao(CnpjSet.chave(cnpj));
+
+        if (chaves[i] != CnpjSet.VAZIA) return valores[i] += delta;
+
+        inserir(i, cnpj + 1, delta);
+        return delta;
+    }
+
+    /// Retorna o valor associado ao CNPJ.
+    ///
+    /// @param cnpj   O valor empacotado do CNPJ.
+    /// @param padrao O valor devolvido se o CNPJ não estiver no mapa.
+    /// @return O valor associado, ou 'padrao'.
+    public int obter(long cnpj, int padrao) {
+        if (cnpj < 0 || cnpj >= Cnpj.LIMITE) return padrao;
+
+        int i = posicao(cnpj + 1);
+        return chaves[i] != CnpjSet.VAZIA ? valores[i] : padrao;
+    }
+
+    /// Verifica se o CNPJ está no mapa.
+    ///
+    /// @param cnpj O valor empacotado do CNPJ.
+    /// @return 'true' se o CNPJ estiver no mapa; caso contrário, 'false'.
+    public boolean contem(long cnpj) {
+        return cnpj >= 0 && cnpj < Cnpj.LIMITE && chaves[posicao(cnpj + 1)] != CnpjSet.VAZIA;
+    }
+
+    /// Remove o CNPJ do mapa.
+    ///
+    /// @param cnpj O valor empacotado do CNPJ.
+    /// @return 'true' se o CNPJ estava no mapa; caso contrário, 'false'.
+    public boolean remover(long cnpj) {
+        if (cnpj < 0 || cnpj >= Cnpj.LIMITE) return false;
+
+        int vazio = posicao(cnpj + 1);
+        if (chaves[vazio] == CnpjSet.VAZIA) return false;
+
+        // Deslocamento para trás, como em CnpjSet.
+        for (int i = (vazio + 1) & mascara; chaves[i] != CnpjSet.VAZIA; i = (i + 1) & mascara) {
+            int ideal = CnpjSet.indice(chaves[i], mascara);
+
+            if (((i - ideal) & mascara) >= ((i - vazio) & mascara)) {
+                chaves[vazio] = chaves[i];
+                valores[vazio] = valores[i];
+                vazio = i;
+            }
+        }
+
+        chaves[vazio] = CnpjSet.VAZIA;
+        tamanho--;
+        return true;
+    }
+
+    /// Retorna a quantidade de CNPJs no mapa.
+    ///
+    /// @return O tamanho do mapa.
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /// Verifica se o mapa está vazio.
+    ///
+    /// @return 'true' se o mapa não tiver entradas.
+    public boolean isVazio() {
+        return tamanho == 0;
+    }
+
+    /// Remove todas as entradas, mantendo a capacidade atual.
+    public void limpar() {
+        Arrays.fill(chaves, CnpjSet.VAZIA);
+        tamanho = 0;
+    }
+
+    /// Executa a ação para cada par CNPJ → valor, em ordem não especificada.
+    ///
+    /// @param acao A ação que recebe o valor empacotado do CNPJ e o valor associado.
+    public void paraCada(Consumidor acao) {
+        for (int i = 0; i < chaves.length; i++)
+            if (chaves[i] != CnpjSet.VAZIA) acao.aceitar(chaves[i] - 1, valores[i]);
+    }
+
+    /// Localiza a posição da chave, ou a posição vazia onde ela seria inserida.
+    private int posicao(long chave) {
+        int i = CnpjSet.indice(chave, mascara);
+
+        while (chaves[i] != CnpjSet.VAZIA && chaves[i] != chave)
+            i = (i + 1) & mascara;
+
+        return i;
+    }
+
+    private void inserir(int i, long chave, int valor) {
+        chaves[i] = chave;
+        valores[i] = valor;
+
+        if (++tamanho > limite) redimensionar();
+    }
+
+    private void redimensionar() {
+        if (chaves.length == CnpjSet.TABELA_MAXIMA) throw new IllegalStateException("Capacidade máxima do mapa atingida.");
+
+        long[] antigasChaves = chaves;
+        int[] antigosValores = valores;
+        alocar(antigasChaves.length << 1);
+
+        for (int j = 0; j < antigasChaves.length; j++) {
+            if (antigasChaves[j] == CnpjSet.VAZIA) continue;
+
+            int i = posicao(antigasChaves[j]);
+            chaves[i] = antigasChaves[j];
+            valores[i] = antigosValores[j];
+        }
+    }
+
+    private void alocar(int tamanhoDaTabela) {
+        chaves = new long[tamanhoDaTabela];
+        valores = new int[tamanhoDaTabela];
+        mascara = tamanhoDaTabela - 1;
+        limite = tamanhoDaTabela / 4 * 3;
+    }
+}
@@ -0,0 +1,200 @@
+package cnpj;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/// Conjunto de CNPJs empacotados (ver [Cnpj]) com endereçamento aberto sobre um 'long[]'.
+///
+/// Cada elemento ocupa 8 bytes na tabela, sem objetos por elemento, o que permite deduplicar dezenas de milhões de
+/// CNPJs em uma fração da memória de um 'HashSet<String>'. As colisões são resolvidas por sondagem linear e a remoção
+/// usa deslocamento para trás, dispensando marcadores de remoção. A tabela dobra de tamanho quando a ocupação
+/// ultrapassa 3/4.
+///
+/// Esta classe não é segura para uso concorrente.
+public final class CnpjSet {
+
+    /// Posição vazia. Os valores são armazenados somados de um, para que '0' possa indicar ausência.
+    static final long VAZIA = 0;
+
+    /// Tamanho máximo da tabela.
+    static final int TABELA_MAXIMA = 1 << 30;
+
+    private long[] tabela;
+    private int mascara;
+    private int tamanho;
+    private int limite;
+
+    /// Cria um conjunto vazio com capacidade inicial padrão.
+    public CnpjSet() {
+        this(16);
+    }
+
+    /// Cria um conjunto vazio capaz de receber a quantidade informada de CNPJs sem redimensionar.
+    ///
+    /// @param capacidade A quantidade esperada de CNPJs.
+    /// @throws IllegalArgumentException Se a capacidade for negativa ou grande demais.
+    public CnpjSet(int capacidade) {
+        if (capacidade < 0 || capacidade > 3 << 28) throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+
+        alocar(tamanhoDaTabela(capacidade));
+    }
+
+    /// Adiciona um CNPJ ao conjunto.
+    ///
+    /// @param valor O valor empacotado do CNPJ.
+    /// @return 'true' se o CNPJ não estava no conjunto; caso contrário, 'false'.
+    /// @throws IllegalArgumentException Se o valor estiver fora de '[0, 10^14)'.
+    public boolean adicionar(long valor) {
+        long chave = chave(valor);
+
+        for (int i = indice(chave, mascara); ; i = (i + 1) & mascara) {
+            long atual = tabela[i];
+
+            if (atual == chave) return false;
+            if (atual == VAZIA) {
+                tabela[i] = chave;
+                if (++tamanho > limite) redimensionar();
+                return true;
+            }
+        }
+    }
+
+    /// Verifica se o CNPJ está no conjunto.
+    ///
+    /// @param valor O valor empacotado do CNPJ.
+    /// @return 'true' se o CNPJ estiver no conjunto; caso contrário, 'false'.
+    public boolean contem(long valor) {
+        if (valor < 0 || valor >= Cnpj.LIMITE) return false;
+
+        long chave = valor + 1;
+
+        for (int i = indice(chave, mascara); ; i = (i + 1) & mascara) {
+            long atual = tabela[i];
+
+            if (atual == chave) return true;
+            if (atual == VAZIA) return false;
+        }
+    }
+
+    /// Remove um CNPJ do conjunto.
+    ///
+    /// @param valor O valor empacotado do CNPJ.
+    /// @return 'true' se o CNPJ estava no conjunto; caso contrário, 'false'.
+    public boolean remover(long valor) {
+        if (valor < 0 || valor >= Cnpj.LIMITE) return false;
+
+        long chave = valor + 1;
+
+        for (int i = indice(chave, mascara); ; i = (i + 1) & mascara) {
+            long atual = tabela[i];
+
+            if (atual == VAZIA) return false;
+            if (atual == chave) {
+                deslocarParaTras(i);
+                tamanho--;
+                return true;
+            }
+        }
+    }
+
+    /// Retorna a quantidade de CNPJs no conjunto.
+    ///
+    /// @return O tamanho do conjunto.
+    public int tamanho() {
+        return tamanho;
+    }
+
+    /// Verifica se o conjunto está vazio.
+    ///
+    /// @return 'true' se o conjunto não tiver elementos.
+    public boolean isVazio() {
+        return tamanho == 0;
+    }
+
+    /// Remove todos os CNPJs, mantendo a capacidade atual.
+    public void limpar() {
+        Arrays.fill(tabela, VAZIA);
+        tamanho = 0;
+    }
+
+    /// Executa a ação para cada CNPJ do conjunto, em ordem não especificada.
+    ///
+    /// @param acao A ação que recebe o valor empacotado de cada CNPJ.
+    public void paraCada(LongConsumer acao) {
+        for (long chave : tabela)
+            if (chave != VAZIA) acao.accept(chave - 1);
+    }
+
+    /// Copia os CNPJs do conjunto para um novo array, em ordem não especificada.
+    ///
+    /// @return Os valores empacotados.
+    public long[] paraArray() {
+        long[] valores = new long[tamanho];
+        int n = 0;
+
+        for (long chave : tabela)
+            if (chave != VAZIA) valores[n++] = chave - 1;
+
+        return valores;
+    }
+
+    /// Fecha o buraco deixado na posição 'vazio' movendo para trás os elementos do mesmo agrupamento que tenham sido
+    /// deslocados pela sondagem linear.
+    private void deslocarParaTras(int vazio) {
+        for (int i = (vazio + 1) & mascara; tabela[i] != VAZIA; i = (i + 1) & mascara) {
+            int ideal = indice(tabela[i], mascara);
+
+            // Move o elemento se a sua posição ideal não estiver no intervalo cíclico (vazio, i].
+            if (((i - ideal) & mascara) >= ((i - vazio) & mascara)) {
+                tabela[vazio] = tabela[i];
+                vazio = i;
+            }
+        }
+
+        tabela[vazio] = VAZIA;
+    }
+
+    private void redimensionar() {
+        if (tabela.length == TABELA_MAXIMA) throw new IllegalStateException("Capacidade máxima do conjunto atingida.");
+
+        long[] antiga = tabela;
+        alocar(antiga.length << 1);
+
+        for (long chave : antiga) {
+            if (chave == VAZIA) continue;
+
+            int i = indice(chave, mascara);
+            while (tabela[i] != VAZIA) i = (i + 1) & mascara;
+            tabela[i] = chave;
+        }
+    }
+
+    private void alocar(int tamanhoDaTabela) {
+        tabela = new long[tamanhoDaTabela];
+        mascara = tamanhoDaTabela - 1;
+        limite = tamanhoDaTabela / 4 * 3;
+    }
+
+    /// Calcula o tamanho da tabela (potência de dois) para a capacidade informada com ocupação máxima de 3/4.
+    static int tamanhoDaTabela(int capacidade) {
+        long minimo = Math.max(16, ((long) capacidade * 4 + 2) / 3);
+        return (int) (Long.highestOneBit(minimo - 1) << 1);
+    }
+
+    /// Converte um valor empacotado na chave armazenada na tabela.
+    ///
+    /// @throws IllegalArgumentException Se o valor estiver fora de '[0, 10^14)'.
+    static long chave(long valor) {
+        if (valor < 0 || valor >= Cnpj.LIMITE) throw new IllegalArgumentException("Valor de CNPJ fora do intervalo: " + valor);
+        return valor + 1;
+    }
+
+    /// Posição ideal da chave na tabela (finalizador do MurmurHash3).
+    static int indice(long chave, int mascara) {
+        chave ^= chave >>> 33;
+        chave *= 0xFF51AFD7ED558CCDL;
+        chave ^= chave >>> 33;
+        chave *= 0xC4CEB9FE1A85EC53L;
+        return (int) (chave ^ (chave >>> 33)) & mascara;
+    }
+}
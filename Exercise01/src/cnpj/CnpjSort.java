@@ -0,0 +1,153 @@
+package cnpj;
+
+import java.util.Arrays;
+
+/// Ordenação, deduplicação e junção de arrays de CNPJs empacotados (ver [Cnpj]).
+///
+/// Como todo valor empacotado é menor que 10^14 < 2^47, a ordenação é um radix sort LSD de três passadas de 16 bits,
+/// em tempo linear. Os três histogramas são montados em uma única varredura inicial, e as passadas em que todas as
+/// chaves têm o mesmo dígito são puladas (comum em listas da mesma raiz ou de uma faixa estreita de valores).
+///
+/// Com os arrays ordenados, [#distintos(long[], int)] remove duplicatas e [#intersecao(long[], int, long[], int, long[])]
+/// faz a junção de duas listas por intercalação, ambos em uma única passada e sem tabelas de hash.
+public final class CnpjSort {
+
+    /// Bits de cada dígito do radix sort.
+    private static final int BITS = 16;
+
+    /// Quantidade de passadas necessárias para cobrir 48 bits.
+    private static final int PASSADAS = 3;
+
+    /// Quantidade de baldes por passada.
+    private static final int BALDES = 1 << BITS;
+
+    /// Abaixo deste tamanho, a ordenação por comparação é mais rápida que o radix sort.
+    private static final int LIMIAR_RADIX = 1024;
+
+    private CnpjSort() {
+    }
+
+    /// Ordena os CNPJs empacotados em ordem crescente.
+    ///
+    /// @param valores Os valores empacotados, todos em '[0, 10^14)'.
+    /// @throws IllegalArgumentException Se algum valor estiver fora do intervalo.
+    public static void ordenar(long[] valores) {
+        ordenar(valores, valores.length);
+    }
+
+    /// Ordena em ordem crescente os 'tamanho' primeiros CNPJs empacotados do array.
+    ///
+    /// Usa um array auxiliar do mesmo tamanho.
+    ///
+    /// @param valores Os valores empacotados, todos em '[0, 10^14)'.
+    /// @param tamanho Quantidade de valores a ordenar, a partir do índice '0'.
+    /// @throws IllegalArgumentException Se algum valor estiver fora do intervalo.
+    public static void ordenar(long[] valores, int tamanho) {
+        checarTamanho(valores, tamanho);
+
+        if (tamanho < LIMIAR_RADIX) {
+            for (int i = 0; i < tamanho; i++) checarValor(valores[i]);
+            Arrays.sort(valores, 0, tamanho);
+            return;
+        }
+
+        int[][] contagens = new int[PASSADAS][BALDES];
+
+        for (int i = 0; i < tamanho; i++) {
+            long valor = checarValor(valores[i]);
+
+            contagens[0][(int) valor & (BALDES - 1)]++;
+            contagens[1][(int) (valor >>> BITS) & (BALDES - 1)]++;
+            contagens[2][(int) (valor >>> 2 * BITS)]++;
+        }
+
+        long[] origem = valores, destino = new long[tamanho];
+
+        for (int passada = 0; passada < PASSADAS; passada++) {
+            int[] contagem = contagens[passada];
+            int deslocamento = passada * BITS;
+
+            // Todas as chaves têm o mesmo dígito nesta passada: a ordem atual já está correta.
+            if (contagem[(int) (origem[0] >>> deslocamento) & (BALDES - 1)] == tamanho) continue;
+
+            for (int balde = 0, posicao = 0; balde < BALDES; balde++) {
+                int quantidade = contagem[balde];
+                contagem[balde] = posicao;
+                posicao += quantidade;
+            }
+
+            for (int i = 0; i < tamanho; i++) {
+                long valor = origem[i];
+                destino[contagem[(int) (valor >>> deslocamento) & (BALDES - 1)]++] = valor;
+            }
+
+            long[] troca = origem;
+            origem = destino;
+            destino = troca;
+        }
+
+        if (origem != valores) System.arraycopy(origem, 0, valores, 0, tamanho);
+    }
+
+    /// Remove as duplicatas de um array ordenado, compactando os valores distintos no início do array.
+    ///
+    /// @param ordenados Os valores em ordem crescente.
+    /// @param tamanho   Quantidade de valores considerados, a partir do índice '0'.
+    /// @return A quantidade de valores distintos, que passam a ocupar 'ordenados[0, retorno)'.
+    public static int distintos(long[] ordenados, int tamanho) {
+        checarTamanho(ordenados, tamanho);
+        if (tamanho == 0) return 0;
+
+        int distintos = 1;
+
+        for (int i = 1; i < tamanho; i++)
+            if (ordenados[i] != ordenados[distintos - 1]) ordenados[distintos++] = ordenados[i];
+
+        return distintos;
+    }
+
+    /// Grava em 'destino' os CNPJs presentes nas duas listas ordenadas (junção por intercalação).
+    ///
+    /// Valores repetidos aparecem na saída tantas vezes quanto o menor número de ocorrências entre as duas listas;
+    /// com listas sem duplicatas (ver [#distintos(long[], int)]), a saída também não tem duplicatas.
+    ///
+    /// @param a        A primeira lista, em ordem crescente.
+    /// @param tamanhoA Quantidade de valores considerados em 'a'.
+    /// @param b        A segunda lista, em ordem crescente.
+    /// @param tamanhoB Quantidade de valores considerados em 'b'.
+    /// @param destino  Array que recebe a interseção, com ao menos 'min(tamanhoA, tamanhoB)' posições. Pode ser o
+    ///                 próprio 'a' ou 'b'.
+    /// @return A quantidade de valores gravados em 'destino', em ordem crescente.
+    public static int intersecao(long[] a, int tamanhoA, long[] b, int tamanhoB, long[] destino) {
+        checarTamanho(a, tamanhoA);
+        checarTamanho(b, tamanhoB);
+        if (destino.length < Math.min(tamanhoA, tamanhoB))
+            throw new IllegalArgumentException("Destino menor que a menor das listas: " + destino.length);
+
+        int i = 0, j = 0, n = 0;
+
+        while (i < tamanhoA && j < tamanhoB) {
+            long x = a[i], y = b[j];
+
+            if (x < y) i++;
+            else if (x > y) j++;
+            else {
+                destino[n++] = x;
+                i++;
+                j++;
+            }
+        }
+
+        return n;
+    }
+
+    private static long checarValor(long valor) {
+        if (valor < 0 || valor >= Cnpj.LIMITE) throw new IllegalArgumentException("Valor de CNPJ fora do intervalo: " + valor);
+        return valor;
+    }
+
+    private static void checarTamanho(long[] valores, int tamanho) {
+        if (tamanho < 0 || tamanho > valores.length)
+            throw new IndexOutOfBoundsException("Tamanho inválido: " + tamanho + " (array com " + valores.length + ")");
+    }
+}
@@ -0,0 +1,126 @@
+import geometry.ImmutableRectangle;
+import geometry.Rectangle;
+import geometry.RectangleSet;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntUnaryOperator;
+
+/// Compara a qualidade do [Rectangle#hashCode()] com a do [ImmutableRectangle#hashCode()].
+///
+/// Para cada distribuição de retângulos, mede:
+///
+/// - a taxa de colisão: a fração dos retângulos cujo hash já foi produzido por outro retângulo;
+/// - o maior balde e a média de comparações por busca bem-sucedida em uma tabela no estilo do 'HashMap' (hash
+///   espalhado com 'h ^ (h >>> 16)' e 2^k baldes, com ocupação entre 3/8 e 3/4);
+/// - o tempo de inserção em 'HashSet<Rectangle>', 'HashSet<ImmutableRectangle>' e [RectangleSet].
+///
+/// Os resultados são determinísticos, exceto os tempos, que servem apenas de ordem de grandeza.
+public class HashCollisionBenchmark {
+
+    private static final int STATISTICS_SIZE = 1_000_000;
+    private static final int TIMING_SIZE = 50_000;
+
+    public static void main(String[] args) {
+        report("Grade 1000 x 1000 a partir da origem", STATISTICS_SIZE, HashCollisionBenchmark::grid);
+        report("Grade 1000 x 1000 deslocada (x1 >= 1)", STATISTICS_SIZE, (i, n) -> grid(i, n).plus(1));
+        report("Aleatórios em [0, 2^20)", STATISTICS_SIZE, HashCollisionBenchmark::random);
+    }
+
+    private interface Distribution {
+        Box at(int index, int n);
+    }
+
+    private record Box(int x1, int y1, int x2, int y2) {
+
+        Box plus(int offset) {
+            return new Box(x1 + offset, y1 + offset, x2 + offset, y2 + offset);
+        }
+    }
+
+    /// Células de uma grade quadrada, com lado 4.
+    private static Box grid(int index, int n) {
+        int side = (int) Math.sqrt(n);
+        int x = index % side * 4, y = index / side * 4;
+        return new Box(x, y, x + 3, y + 3);
+    }
+
+    /// Retângulos pseudoaleatórios (semente fixa por índice).
+    private static Box random(int index, int n) {
+        Random random = new Random(index);
+        int x = random.nextInt(1 << 20), y = random.nextInt(1 << 20);
+        return new Box(x, y, x + random.nextInt(64), y + random.nextInt(64));
+    }
+
+    private static void report(String title, int n, Distribution distribution) {
+        Box[] boxes = new Box[n];
+        for (int i = 0; i < n; i++) boxes[i] = distribution.at(i, n);
+
+        System.out.println(title + " (" + n + " retângulos)");
+
+        statistics("Rectangle", boxes, index -> {
+            Box b = boxes[index];
+            return new Rectangle(b.x1, b.y1, b.x2, b.y2).hashCode();
+        });
+
+        statistics("ImmutableRectangle", boxes, index -> {
+            Box b = boxes[index];
+            return new ImmutableRectangle(b.x1, b.y1, b.x2, b.y2).hashCode();
+        });
+
+        timing(Arrays.copyOf(boxes, Math.min(n, TIMING_SIZE)));
+        System.out.println();
+    }
+
+    private static void statistics(String name, Box[] boxes, IntUnaryOperator hashOf) {
+        int n = boxes.length;
+        int[] hashes = new int[n];
+        for (int i = 0; i < n; i++) hashes[i] = hashOf.applyAsInt(i);
+
+        int[] sorted = hashes.clone();
+        Arrays.sort(sorted);
+
+        int distinct = n == 0 ? 0 : 1;
+        for (int i = 1; i < n; i++) if (sorted[i] != sorted[i - 1]) distinct++;
+
+        // Tabela do tamanho que o HashMap teria após as inserções (ocupação máxima de 3/4).
+        int buckets = Integer.highestOneBit(Math.max(16, n * 4 / 3)) << 1;
+        int[] chain = new int[buckets];
+        long comparisons = 0;
+        int longest = 0;
+
+        for (int hash : hashes) {
+            int bucket = (hash ^ (hash >>> 16)) & (buckets - 1);
+            comparisons += ++chain[bucket];
+            longest = Math.max(longest, chain[bucket]);
+        }
+
+        System.out.printf("  %-20s hashes distintos: %9d  colisões: %6.2f%%  maior balde: %7d  comparações/busca: %10.2f%n",
+                name, distinct, 100.0 * (n - distinct) / n, longest, (double) comparisons / n);
+    }
+
+    private static void timing(Box[] boxes) {
+        long start = System.nanoTime();
+        Set<Rectangle> mutable = new HashSet<>();
+        for (Box b : boxes) mutable.add(new Rectangle(b.x1, b.y1, b.x2, b.y2));
+        long mutableNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        Set<ImmutableRectangle> immutable = new HashSet<>();
+        for (Box b : boxes) immutable.add(new ImmutableRectangle(b.x1, b.y1, b.x2, b.y2));
+        long immutableNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        RectangleSet primitive = new RectangleSet();
+        for (Box b : boxes) primitive.add(b.x1, b.y1, b.x2, b.y2);
+        long primitiveNanos = System.nanoTime() - start;
+
+        System.out.printf("  Inserção de %d: HashSet<Rectangle> %.1f ms, HashSet<ImmutableRectangle> %.1f ms, RectangleSet %.1f ms%n",
+                boxes.length, mutableNanos / 1e6, immutableNanos / 1e6, primitiveNanos / 1e6);
+
+        if (mutable.size() != primitive.size() || immutable.size() != primitive.size())
+            throw new IllegalStateException("Os conjuntos divergiram.");
+    }
+}
@@ -1,7 +1,14 @@
 package com.restful.todo.list.controller;
 
+import com.restful.todo.list.dto.TaskBulkCreateDTO;
+import com.restful.todo.list.dto.TaskBulkDeleteDTO;
+import com.restful.todo.list.dto.TaskBulkResultDTO;
+import com.restful.todo.list.dto.TaskBulkUpdateDTO;
 import com.restful.todo.list.dto.TaskCreateDTO;
+import com.restful.todo.list.dto.TaskCursor;
 import com.restful.todo.list.dto.TaskDetailDTO;
+import com.restful.todo.list.dto.TaskExportFormat;
+import com.restful.todo.list.dto.TaskSliceDTO;
 import com.restful.todo.list.dto.TaskUpdateDTO;
 import com.restful.todo.list.entity.Task;
 import com.restful.todo.list.service.TaskService;
@@ -10,6 +17,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -19,9 +27,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.util.List;
 
 import static org.springframework.data.domain.Sort.by;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.ResponseEntity.*;
 
 @RestController
@@ -81,6 +93,10 @@ public class TaskController {
 
     /**
      * Endpoint para listar todas as tarefas com paginação.
+     * <p>
+     * Cada chamada executa {@code LIMIT ... OFFSET ...} e um {@code COUNT(*)}; para tabelas grandes, prefira
+     * {@link #listarPorCursor(String, int, String)}.
+     * </p>
      *
      * @param page   Número da página (zero-based).
      * @param size   Tamanho da página.
@@ -110,6 +126,61 @@ public class TaskController {
         return ok(tarefas);
     }
 
+    /**
+     * Endpoint para listar as tarefas por cursor (keyset), sem {@code OFFSET} e sem contagem.
+     * <p>
+     * Cada fatia começa logo após a chave da última tarefa da fatia anterior, {@code id} ou {@code (done, id)}, de modo
+     * que o custo não cresce com a profundidade da listagem. Para continuar, repita a chamada com o
+     * {@code nextCursor} devolvido, até que ele venha nulo.
+     * </p>
+     *
+     * @param cursor Token de continuação devolvido pela fatia anterior (opcional na primeira chamada).
+     * @param size   Tamanho da fatia, de 1 a {@link TaskCursor#MAX_SIZE}.
+     * @param sort   Ordenação: {@code id} (padrão) ou {@code done}, que ordena por {@code (done, id)}. Nas chamadas
+     *               seguintes, a ordenação vem do cursor.
+     * @return ResponseEntity com o status 200 (OK) e a fatia de tarefas.
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar tarefas por cursor", description = "Retorna uma fatia de tarefas a partir de um cursor opaco, sem contagem total.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fatia de tarefas."),
+            @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos, ou tamanho fora do intervalo de 1 a 1000.")
+    })
+    public ResponseEntity<TaskSliceDTO> listarPorCursor(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(value = "sort", required = false) String sort
+    ) {
+        TaskSliceDTO tarefas = taskService.getTasksByCursor(cursor, sort, size);
+        return ok(tarefas);
+    }
+
+    /**
+     * Endpoint para exportar todas as tarefas, em NDJSON ou CSV.
+     * <p>
+     * As tarefas são escritas diretamente na resposta enquanto são lidas do banco, sem paginação nem contagem, de modo
+     * que tabelas de qualquer tamanho são exportadas com memória constante. Exemplo:
+     * {@code curl -o tarefas.csv "http://localhost:8080/api/v1/task/export?format=CSV"}
+     * </p>
+     *
+     * @param format   Formato da exportação: {@code NDJSON} (padrão) ou {@code CSV}.
+     * @param response A resposta HTTP, escrita diretamente pelo serviço.
+     * @throws IOException Se ocorrer um erro ao escrever a resposta.
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exportar todas as tarefas", description = "Escreve todas as tarefas em NDJSON ou CSV, em streaming.")
+    @ApiResponse(responseCode = "200", description = "Tarefas exportadas.")
+    public void exportar(
+            @RequestParam(value = "format", required = false, defaultValue = "NDJSON") TaskExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format.getExtension() + "\"");
+
+        taskService.exportTasks(format, response.getOutputStream());
+    }
+
     /**
      * Endpoint para atualizar uma tarefa existente.
      *
@@ -146,4 +217,69 @@ public class TaskController {
         taskService.deleteTask(id);
         return noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Endpoint para cadastrar várias tarefas de uma vez.
+     * <p>
+     * As tarefas são inseridas em lotes JDBC, com um {@code INSERT} de várias linhas por lote, em uma única transação.
+     * </p>
+     *
+     * @param taskBulkCreateDTO Tarefas a serem cadastradas.
+     * @return ResponseEntity com o status 201 (Created) e os IDs das tarefas criadas, na ordem da requisição.
+     */
+    @Transactional
+    @PostMapping("/bulk")
+    @Operation(summary = "Cadastrar tarefas em lote")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Tarefas criadas com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Dados de cadastro inválidos.")
+    })
+    public ResponseEntity<TaskBulkResultDTO> cadastrarEmLote(@RequestBody @Valid TaskBulkCreateDTO taskBulkCreateDTO) {
+        List<Long> ids = taskService.createTasks(taskBulkCreateDTO.tasks());
+        return status(CREATED).body(new TaskBulkResultDTO(ids));
+    }
+
+    /**
+     * Endpoint para atualizar várias tarefas de uma vez.
+     * <p>
+     * Se alguma tarefa não existir, nenhuma é atualizada.
+     * </p>
+     *
+     * @param taskBulkUpdateDTO Atualizações parciais das tarefas.
+     * @return ResponseEntity com o status 200 (OK) e os IDs das tarefas atualizadas.
+     */
+    @Transactional
+    @PatchMapping("/bulk")
+    @Operation(summary = "Atualizar tarefas em lote", description = "Atualiza parte ou todos os dados de várias tarefas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tarefas atualizadas com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Dados de atualização inválidos."),
+            @ApiResponse(responseCode = "404", description = "Alguma tarefa não foi encontrada.")
+    })
+    public ResponseEntity<TaskBulkResultDTO> atualizarEmLote(@RequestBody @Valid TaskBulkUpdateDTO taskBulkUpdateDTO) {
+        List<Long> ids = taskService.updateTasks(taskBulkUpdateDTO.tasks());
+        return ok(new TaskBulkResultDTO(ids));
+    }
+
+    /**
+     * Endpoint para excluir várias tarefas de uma vez.
+     * <p>
+     * Se alguma tarefa não existir, nenhuma é excluída.
+     * </p>
+     *
+     * @param taskBulkDeleteDTO IDs das tarefas a serem excluídas.
+     * @return ResponseEntity com o status 204 (No Content).
+     */
+    @Transactional
+    @DeleteMapping("/bulk")
+    @Operation(summary = "Excluir tarefas em lote", description = "Exclui várias tarefas existentes.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tarefas excluídas com sucesso."),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs inválida."),
+            @ApiResponse(responseCode = "404", description = "Alguma tarefa não foi encontrada.")
+    })
+    public ResponseEntity<Void> excluirEmLote(@RequestBody @Valid TaskBulkDeleteDTO taskBulkDeleteDTO) {
+        taskService.deleteTasks(taskBulkDeleteDTO.ids());
+        return noContent().build();
+    }
+}
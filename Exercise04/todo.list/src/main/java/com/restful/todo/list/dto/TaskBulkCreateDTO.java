@@ -0,0 +1,20 @@
+package com.restful.todo.list.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Lote de tarefas a cadastrar.")
+public record TaskBulkCreateDTO(
+
+        @Schema(description = "Tarefas a cadastrar, inseridas em lotes JDBC.")
+        @NotEmpty(message = "A lista de tarefas é obrigatória.")
+        @Size(max = TaskBulkCreateDTO.MAX_TASKS, message = "O lote deve ter no máximo 100000 tarefas.")
+        List<@Valid TaskCreateDTO> tasks
+) {
+    /** Quantidade máxima de tarefas por requisição em lote. */
+    public static final int MAX_TASKS = 100_000;
+}
@@ -0,0 +1,18 @@
+package com.restful.todo.list.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Lote de tarefas a excluir.")
+public record TaskBulkDeleteDTO(
+
+        @Schema(description = "IDs das tarefas a excluir.", example = "[1, 2, 3]")
+        @NotEmpty(message = "A lista de IDs é obrigatória.")
+        @Size(max = TaskBulkCreateDTO.MAX_TASKS, message = "O lote deve ter no máximo 100000 tarefas.")
+        List<@NotNull(message = "ID é obrigatório.") Long> ids
+) {
+}
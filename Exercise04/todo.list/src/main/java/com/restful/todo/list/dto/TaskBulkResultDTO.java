@@ -0,0 +1,19 @@
+package com.restful.todo.list.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado de uma operação em lote.")
+public record TaskBulkResultDTO(
+
+        @Schema(description = "Quantidade de tarefas afetadas.", example = "3")
+        int count,
+
+        @Schema(description = "IDs das tarefas afetadas, na ordem da requisição.", example = "[1, 2, 3]")
+        List<Long> ids
+) {
+    public TaskBulkResultDTO(List<Long> ids) {
+        this(ids.size(), ids);
+    }
+}
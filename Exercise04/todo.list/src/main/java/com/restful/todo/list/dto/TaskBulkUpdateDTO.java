@@ -0,0 +1,18 @@
+package com.restful.todo.list.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Lote de tarefas a atualizar.")
+public record TaskBulkUpdateDTO(
+
+        @Schema(description = "Atualizações parciais, cada uma identificada pelo ID da tarefa.")
+        @NotEmpty(message = "A lista de tarefas é obrigatória.")
+        @Size(max = TaskBulkCreateDTO.MAX_TASKS, message = "O lote deve ter no máximo 100000 tarefas.")
+        List<@Valid TaskUpdateDTO> tasks
+) {
+}
@@ -0,0 +1,91 @@
+package com.restful.todo.list.dto;
+
+import com.restful.todo.list.entity.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Posição de continuação da listagem de tarefas por cursor (keyset).
+ * <p>
+ * O cursor guarda a chave da última tarefa entregue, {@code id} ou {@code (done, id)}, e a ordenação usada, para que a
+ * próxima consulta comece logo depois dela com {@code WHERE} sobre a chave em vez de {@code OFFSET}. Para o cliente, o
+ * cursor é um token opaco: 9 bytes codificados em Base64 URL-safe, sem preenchimento.
+ * </p>
+ *
+ * @param byDone Indica se a ordenação é por {@code (done, id)}; caso contrário, é apenas por {@code id}.
+ * @param done   O valor de {@code done} da última tarefa entregue.
+ * @param id     O {@code id} da última tarefa entregue.
+ */
+@Schema(description = "Posição de continuação da listagem de tarefas por cursor.")
+public record TaskCursor(boolean byDone, boolean done, long id) {
+
+    /** Tamanho máximo de uma fatia da listagem por cursor. */
+    public static final int MAX_SIZE = 1000;
+
+    private static final int TOKEN_BYTES = Long.BYTES + 1;
+    private static final int BY_DONE = 1;
+    private static final int DONE = 2;
+
+    /**
+     * Cria o cursor da primeira página para a ordenação informada.
+     * <p>
+     * Os ids gerados pelo banco são positivos, de modo que {@code (false, 0)} antecede todas as tarefas.
+     * </p>
+     *
+     * @param sort A ordenação: {@code id} ou {@code done}.
+     * @return O cursor anterior à primeira tarefa.
+     * @throws IllegalArgumentException Se a ordenação não for suportada.
+     */
+    public static TaskCursor first(String sort) {
+        return switch (sort) {
+            case "id" -> new TaskCursor(false, false, 0);
+            case "done" -> new TaskCursor(true, false, 0);
+            default -> throw new IllegalArgumentException("Ordenação não suportada na listagem por cursor: " + sort);
+        };
+    }
+
+    /**
+     * Cria o cursor posicionado logo após a tarefa informada, mantendo a ordenação deste cursor.
+     *
+     * @param task A última tarefa entregue.
+     * @return O cursor da próxima página.
+     */
+    public TaskCursor after(Task task) {
+        return new TaskCursor(byDone, task.isDone(), task.getId());
+    }
+
+    /**
+     * Codifica o cursor como token opaco.
+     *
+     * @return O token em Base64 URL-safe.
+     */
+    public String encode() {
+        byte flags = (byte) ((byDone ? BY_DONE : 0) | (done ? DONE : 0));
+        byte[] bytes = ByteBuffer.allocate(TOKEN_BYTES).put(flags).putLong(id).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Decodifica um token gerado por {@link #encode()}.
+     *
+     * @param token O token recebido do cliente.
+     * @return O cursor correspondente.
+     * @throws IllegalArgumentException Se o token não for um cursor válido.
+     */
+    public static TaskCursor decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+        if (bytes.length != TOKEN_BYTES || (bytes[0] & ~(BY_DONE | DONE)) != 0)
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte flags = buffer.get();
+        return new TaskCursor((flags & BY_DONE) != 0, (flags & DONE) != 0, buffer.getLong());
+    }
+}
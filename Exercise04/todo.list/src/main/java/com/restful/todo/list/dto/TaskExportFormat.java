@@ -0,0 +1,32 @@
+package com.restful.todo.list.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Formatos da exportação de tarefas.
+ */
+@Schema(description = "Formato da exportação de tarefas.")
+public enum TaskExportFormat {
+
+    /** Um objeto JSON por linha: {@code {"id":1,"description":"...","done":false}}. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** CSV com cabeçalho {@code id,description,done}, no formato da RFC 4180. */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,19 @@
+package com.restful.todo.list.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Fatia de tarefas da listagem por cursor.")
+public record TaskSliceDTO(
+
+        @Schema(description = "Tarefas da fatia, na ordem do cursor.")
+        List<TaskDetailDTO> content,
+
+        @Schema(description = "Indica se há mais tarefas depois desta fatia.")
+        boolean hasNext,
+
+        @Schema(description = "Token opaco para buscar a próxima fatia; nulo quando não há mais tarefas.")
+        String nextCursor
+) {
+}
@@ -21,7 +21,8 @@ import static java.util.Optional.ofNullable;
 @Entity
 @Table(
         name = "tb_task",
-        schema = "db_todo_list"
+        schema = "db_todo_list",
+        indexes = @Index(name = "idx_task_done_id", columnList = "done, id")
 )
 public class Task {
 
@@ -0,0 +1,80 @@
+package com.restful.todo.list.repository;
+
+import com.restful.todo.list.dto.TaskCreateDTO;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static java.sql.Statement.RETURN_GENERATED_KEYS;
+
+/**
+ * Repositório de inserção em lote de tarefas via JDBC.
+ * <p>
+ * Com {@code GenerationType.IDENTITY}, o Hibernate precisa do id de cada tarefa logo após o {@code INSERT} e por isso
+ * desativa o lote de inserções: cada tarefa custa uma ida e volta ao banco. Aqui as tarefas são enviadas em lotes de
+ * {@link #BATCH_SIZE} pelo {@link JdbcTemplate}; com {@code rewriteBatchedStatements=true} na URL do MySQL, o driver
+ * reescreve cada lote como um único {@code INSERT} de várias linhas e devolve os ids gerados.
+ * </p>
+ * <p>
+ * O {@link JdbcTemplate} usa a mesma conexão da transação JPA corrente, de modo que os lotes são confirmados ou
+ * desfeitos junto com ela.
+ * </p>
+ */
+@Repository("taskBatchRepository")
+public class TaskBatchRepository {
+
+    /** Quantidade de tarefas por lote, igual ao {@code hibernate.jdbc.batch_size} configurado. */
+    public static final int BATCH_SIZE = 1000;
+
+    private static final String INSERT = "insert into db_todo_list.tb_task (description, done) values (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Insere as tarefas em lotes e devolve os ids gerados, na ordem da lista.
+     *
+     * @param tasks As tarefas a inserir.
+     * @return Os ids gerados para as tarefas.
+     */
+    public List<Long> insertAll(List<TaskCreateDTO> tasks) {
+        List<Long> ids = new ArrayList<>(tasks.size());
+
+        for (int from = 0; from < tasks.size(); from += BATCH_SIZE) {
+            List<TaskCreateDTO> batch = tasks.subList(from, Math.min(from + BATCH_SIZE, tasks.size()));
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT, RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setString(1, batch.get(i).description());
+                            ps.setBoolean(2, batch.get(i).done());
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    },
+                    keyHolder
+            );
+
+            for (Map<String, Object> keys : keyHolder.getKeyList())
+                ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+}
@@ -1,9 +1,78 @@
 package com.restful.todo.list.repository;
 
 import com.restful.todo.list.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository("taskRepository")
 public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    /**
+     * Busca as tarefas com {@code id} maior que o informado, para a listagem por cursor ordenada por {@code id}.
+     * <p>
+     * Por retornar {@link Slice}, a consulta busca uma tarefa a mais para saber se há próxima fatia e não executa
+     * {@code COUNT(*)}. O {@code pageable} deve ser a primeira página, ordenada por {@code id}.
+     * </p>
+     *
+     * @param id       O {@code id} da última tarefa entregue.
+     * @param pageable O tamanho da fatia e a ordenação.
+     * @return A fatia de tarefas seguinte ao cursor.
+     */
+    Slice<Task> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Busca as tarefas posteriores a {@code (done, id)} na ordem {@code (done, id)}, para a listagem por cursor
+     * ordenada por {@code done}. A consulta usa o índice {@code idx_task_done_id}.
+     *
+     * @param done     O valor de {@code done} da última tarefa entregue.
+     * @param id       O {@code id} da última tarefa entregue.
+     * @param pageable O tamanho da fatia e a ordenação, que deve ser a primeira página ordenada por {@code (done, id)}.
+     * @return A fatia de tarefas seguinte ao cursor.
+     */
+    @Query("""
+            select t from Task t
+            where (t.done = :done and t.id > :id) or (:done = false and t.done = true)
+            """)
+    Slice<Task> findAfterDoneAndId(@Param("done") boolean done, @Param("id") Long id, Pageable pageable);
+
+    /**
+     * Exclui as tarefas com os ids informados em um único {@code DELETE ... WHERE id IN (...)}, sem carregá-las.
+     *
+     * @param ids Os ids das tarefas a excluir.
+     * @return A quantidade de tarefas excluídas.
+     */
+    @Modifying
+    @Query("delete from Task t where t.id in :ids")
+    int deleteInBatchByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Percorre todas as tarefas em ordem de {@code id}, para a exportação.
+     * <p>
+     * O tamanho de busca {@code Integer.MIN_VALUE} faz o driver do MySQL ler o resultado linha a linha, em um cursor
+     * somente para frente, em vez de carregar todas as linhas na memória ao executar a consulta. As entidades são
+     * carregadas como somente leitura, sem cópia para verificação de alterações. O {@link Stream} deve ser consumido
+     * e fechado dentro de uma transação.
+     * </p>
+     *
+     * @return As tarefas, em ordem de {@code id}.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAll();
 }
@@ -2,6 +2,8 @@ package com.restful.todo.list.service;
 
 import com.restful.todo.list.dto.TaskCreateDTO;
 import com.restful.todo.list.dto.TaskDetailDTO;
+import com.restful.todo.list.dto.TaskExportFormat;
+import com.restful.todo.list.dto.TaskSliceDTO;
 import com.restful.todo.list.dto.TaskUpdateDTO;
 import com.restful.todo.list.entity.Task;
 import jakarta.transaction.Transactional;
@@ -9,6 +11,10 @@ import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
 public interface TaskService {
 
     @Transactional(rollbackOn = Exception.class)
@@ -18,8 +24,20 @@ public interface TaskService {
 
     Page<TaskDetailDTO> getAllTasks(Pageable pageable);
 
+    TaskSliceDTO getTasksByCursor(String cursor, String sort, int size);
+
     @Transactional(rollbackOn = Exception.class)
     Task updateTask(@Valid TaskUpdateDTO taskUpdateDTO);
 
     void deleteTask(Long id);
+
+    @Transactional(rollbackOn = Exception.class)
+    List<Long> createTasks(List<@Valid TaskCreateDTO> taskCreateDTOs);
+
+    @Transactional(rollbackOn = Exception.class)
+    List<Long> updateTasks(List<@Valid TaskUpdateDTO> taskUpdateDTOs);
+
+    void deleteTasks(List<Long> ids);
+
+    long exportTasks(TaskExportFormat format, OutputStream outputStream) throws IOException;
 }
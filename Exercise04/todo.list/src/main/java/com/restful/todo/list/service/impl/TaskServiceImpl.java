@@ -1,21 +1,45 @@
 package com.restful.todo.list.service.impl;
 
 import com.restful.todo.list.dto.TaskCreateDTO;
+import com.restful.todo.list.dto.TaskCursor;
 import com.restful.todo.list.dto.TaskDetailDTO;
+import com.restful.todo.list.dto.TaskExportFormat;
+import com.restful.todo.list.dto.TaskSliceDTO;
 import com.restful.todo.list.dto.TaskUpdateDTO;
 import com.restful.todo.list.entity.Task;
+import com.restful.todo.list.repository.TaskBatchRepository;
 import com.restful.todo.list.repository.TaskRepository;
 import com.restful.todo.list.service.TaskService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static com.restful.todo.list.repository.TaskBatchRepository.BATCH_SIZE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.data.domain.PageRequest.ofSize;
+import static org.springframework.data.domain.Sort.by;
 
 @Service("taskService")
 public class TaskServiceImpl implements TaskService {
@@ -23,10 +47,22 @@ public class TaskServiceImpl implements TaskService {
     @Schema(description = "Logger para a classe CarroServiceImpl.")
     private static final Logger log = getLogger(TaskServiceImpl.class);
 
+    /** Quantidade de tarefas exportadas entre dois envios da saída ao cliente. */
+    private static final int ROWS_PER_FLUSH = 1000;
+
     private final TaskRepository taskRepository;
+    private final TaskBatchRepository taskBatchRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
 
-    public TaskServiceImpl(TaskRepository taskRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository,
+                           TaskBatchRepository taskBatchRepository,
+                           EntityManager entityManager,
+                           ObjectMapper objectMapper) {
         this.taskRepository = taskRepository;
+        this.taskBatchRepository = taskBatchRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
     }
 
     @Override
@@ -58,6 +94,24 @@ public class TaskServiceImpl implements TaskService {
         return tasks.map(TaskDetailDTO::new);
     }
 
+    @Override
+    public TaskSliceDTO getTasksByCursor(String cursor, String sort, int size) {
+        if (size < 1 || size > TaskCursor.MAX_SIZE)
+            throw new IllegalArgumentException("O tamanho da fatia deve estar entre 1 e " + TaskCursor.MAX_SIZE + ": " + size);
+        TaskCursor position = cursor == null ? TaskCursor.first(sort == null ? "id" : sort) : TaskCursor.decode(cursor);
+        if (cursor != null && sort != null && position.byDone() != TaskCursor.first(sort).byDone())
+            throw new IllegalArgumentException("O cursor informado não pertence à ordenação: " + sort);
+        log.info("Buscando tarefas após o cursor: {}", position);
+
+        Slice<Task> tasks = position.byDone()
+                ? taskRepository.findAfterDoneAndId(position.done(), position.id(), ofSize(size).withSort(by("done", "id")))
+                : taskRepository.findByIdGreaterThan(position.id(), ofSize(size).withSort(by("id")));
+        log.info("Tarefas encontradas: {}", tasks.getNumberOfElements());
+
+        String nextCursor = tasks.hasNext() ? position.after(tasks.getContent().getLast()).encode() : null;
+        return new TaskSliceDTO(tasks.map(TaskDetailDTO::new).getContent(), tasks.hasNext(), nextCursor);
+    }
+
     @Override
     @Transactional
     public Task updateTask(@Valid TaskUpdateDTO taskUpdateDTO) {
@@ -88,4 +142,149 @@ public class TaskServiceImpl implements TaskService {
         taskRepository.deleteById(id);
         log.info("Tarefa excluída com sucesso com ID: {}", id);
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional
+    public List<Long> createTasks(List<@Valid TaskCreateDTO> taskCreateDTOs) {
+        log.info("Criando {} tarefas em lote.", taskCreateDTOs.size());
+        List<Long> ids = taskBatchRepository.insertAll(taskCreateDTOs);
+        log.info("Tarefas criadas com sucesso: {}", ids.size());
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public List<Long> updateTasks(List<@Valid TaskUpdateDTO> taskUpdateDTOs) {
+        log.info("Atualizando {} tarefas em lote.", taskUpdateDTOs.size());
+
+        List<Long> ids = taskUpdateDTOs.stream().map(TaskUpdateDTO::id).toList();
+        Map<Long, Task> tasks = new HashMap<>();
+        for (List<Long> batch : batches(ids))
+            taskRepository.findAllById(batch).forEach(task -> tasks.put(task.getId(), task));
+
+        List<Long> missing = ids.stream().filter(id -> !tasks.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty()) {
+            log.warn("Tarefas não encontradas com IDs: {}", missing);
+            throw new EntityNotFoundException("Tarefas não encontradas com IDs: " + missing);
+        }
+
+        // As tarefas estão gerenciadas: o Hibernate agrupa os UPDATEs no flush, em lotes de hibernate.jdbc.batch_size.
+        for (TaskUpdateDTO taskUpdateDTO : taskUpdateDTOs) tasks.get(taskUpdateDTO.id()).update(taskUpdateDTO);
+        log.info("Tarefas atualizadas com sucesso: {}", tasks.size());
+
+        return ids;
+    }
+
+    @Override
+    @Transactional
+    public void deleteTasks(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        log.info("Excluindo {} tarefas em lote.", distinctIds.size());
+
+        int deleted = 0;
+        for (List<Long> batch : batches(distinctIds)) deleted += taskRepository.deleteInBatchByIds(batch);
+
+        if (deleted != distinctIds.size()) {
+            log.warn("Tarefas não encontradas: {} dos {} IDs informados.", distinctIds.size() - deleted, distinctIds.size());
+            throw new EntityNotFoundException("Tarefas não encontradas: " + (distinctIds.size() - deleted) +
+                                              " dos " + distinctIds.size() + " IDs informados.");
+        }
+        log.info("Tarefas excluídas com sucesso: {}", deleted);
+    }
+
+    /**
+     * Escreve todas as tarefas no formato pedido enquanto as lê do banco.
+     * <p>
+     * As tarefas vêm de um {@link Stream} somente para frente, e cada uma é desanexada do contexto de persistência
+     * assim que escrita, de modo que nem o contexto (compartilhado com o open-in-view) nem a saída crescem com a
+     * quantidade de tarefas. A saída é enviada ao cliente a cada {@link #ROWS_PER_FLUSH} tarefas.
+     * </p>
+     * <p>
+     * A transação é a do Spring, e não a do {@code jakarta.transaction}, porque só ela pode ser somente leitura: o
+     * Hibernate deixa de verificar alterações e a conexão é marcada como somente leitura.
+     * </p>
+     */
+    @Override
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public long exportTasks(TaskExportFormat format, OutputStream outputStream) throws IOException {
+        log.info("Exportando tarefas em {}.", format);
+
+        long exported;
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            exported = switch (format) {
+                case NDJSON -> writeNdjson(tasks.iterator(), outputStream);
+                case CSV -> writeCsv(tasks.iterator(), outputStream);
+            };
+        }
+
+        log.info("Tarefas exportadas com sucesso: {}", exported);
+        return exported;
+    }
+
+    private long writeNdjson(Iterator<Task> tasks, OutputStream outputStream) throws IOException {
+        long count = 0;
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null); // O separador entre os objetos é o '\n' escrito abaixo.
+
+            while (tasks.hasNext()) {
+                Task task = tasks.next();
+                generator.writeStartObject();
+                generator.writeNumberField("id", task.getId());
+                generator.writeStringField("description", task.getDescription());
+                generator.writeBooleanField("done", task.isDone());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+
+                entityManager.detach(task);
+                if (++count % ROWS_PER_FLUSH == 0) generator.flush();
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<Task> tasks, OutputStream outputStream) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+
+        writer.write("id,description,done\r\n");
+        while (tasks.hasNext()) {
+            Task task = tasks.next();
+            writer.write(String.valueOf(task.getId()));
+            writer.write(',');
+            writer.write(csv(task.getDescription()));
+            writer.write(',');
+            writer.write(String.valueOf(task.isDone()));
+            writer.write("\r\n");
+
+            entityManager.detach(task);
+            if (++count % ROWS_PER_FLUSH == 0) writer.flush();
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * Escapa um campo CSV: campos com vírgula, aspas ou quebra de linha vão entre aspas, com as aspas duplicadas.
+     */
+    private static String csv(String value) {
+        if (value == null) return "";
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    /**
+     * Divide a lista em blocos de {@link TaskBatchRepository#BATCH_SIZE}, para que nenhuma cláusula {@code IN}
+     * ultrapasse o limite de parâmetros do banco.
+     */
+    private static <T> List<List<T>> batches(List<T> list) {
+        List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += BATCH_SIZE)
+            batches.add(list.subList(from, Math.min(from + BATCH_SIZE, list.size())));
+        return batches;
+    }
+}
@@ -0,0 +1,154 @@
+package geometry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/// Mede os caminhos quentes de [Rectangle]: [Rectangle#isIntersection], [Rectangle#areaOfIntersection],
+/// [Rectangle#isPointInside], [Rectangle#clone()], [Rectangle#hashCode()] e [Rectangle#equals(Object)].
+///
+/// Cada invocação percorre [#SIZE] pares pré-gerados, de modo que os resultados por operação são médias sobre
+/// entradas variadas e o preditor de desvios não aprende um único caso. As distribuições são:
+///
+/// - 'aleatorio': retângulos pequenos espalhados em '[0, 1000)', com cerca de metade dos pares se intersectando e
+///   desvios imprevisíveis;
+/// - 'aninhados': todos contêm o centro do grid, de modo que todo par se intersecta e [Rectangle#areaOfIntersection]
+///   sempre constrói o retângulo de interseção;
+/// - 'disjuntos': pares separados em x, que saem no primeiro teste;
+/// - 'colisoes_hash': todos com 'x1 = 0', o que zera o [Rectangle#hashCode()], e comparados com cópias de si mesmos,
+///   de modo que [Rectangle#equals(Object)] compara as quatro coordenadas;
+/// - 'extremos': coordenadas próximas de 'Integer.MIN_VALUE' e 'Integer.MAX_VALUE', em que as áreas estouram 'int'.
+///
+/// Execução, com a alocação por operação ('gc.alloc.rate.norm', em bytes/op) medida pelo profiler de GC:
+/// 'java -jar target/benchmarks.jar RectangleBenchmark -prof gc'. O [Rectangle#clone()] aloca um objeto por
+/// chamada; nos demais, qualquer valor acima de zero indica que a análise de escape não eliminou uma alocação.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RectangleBenchmark {
+
+    /// Quantidade de pares percorridos por invocação.
+    static final int SIZE = 1024;
+
+    @Param({"aleatorio", "aninhados", "disjuntos", "colisoes_hash", "extremos"})
+    private String distribuicao;
+
+    private Rectangle[] first;
+    private Rectangle[] second;
+    private int[] xs;
+    private int[] ys;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        first = new Rectangle[SIZE];
+        second = new Rectangle[SIZE];
+        xs = new int[SIZE];
+        ys = new int[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            switch (distribuicao) {
+                case "aleatorio" -> {
+                    first[i] = random(random, 0, 1000, 100);
+                    second[i] = random(random, 0, 1000, 100);
+                }
+                case "aninhados" -> {
+                    first[i] = around(random, 500, 400);
+                    second[i] = around(random, 500, 400);
+                }
+                case "disjuntos" -> {
+                    first[i] = random(random, 0, 1000, 100);
+                    second[i] = random(random, 2000, 1000, 100);
+                }
+                case "colisoes_hash" -> {
+                    int y1 = random.nextInt(1000);
+                    first[i] = new Rectangle(0, y1, random.nextInt(1000), y1 + random.nextInt(100));
+                    second[i] = new Rectangle(first[i]);
+                }
+                case "extremos" -> {
+                    first[i] = new Rectangle(Integer.MIN_VALUE + random.nextInt(1000), Integer.MIN_VALUE,
+                            Integer.MAX_VALUE - random.nextInt(1000), Integer.MAX_VALUE);
+                    second[i] = new Rectangle(Integer.MIN_VALUE, Integer.MIN_VALUE + random.nextInt(1000),
+                            Integer.MAX_VALUE, Integer.MAX_VALUE - random.nextInt(1000));
+                }
+                default -> throw new IllegalArgumentException("Distribuição desconhecida: " + distribuicao);
+            }
+            xs[i] = first[i].getX1() + random.nextInt(200) - 50;
+            ys[i] = first[i].getY1() + random.nextInt(200) - 50;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int isIntersection() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++) if (Rectangle.isIntersection(first[i], second[i])) count++;
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int areaOfIntersection() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) sum += Rectangle.areaOfIntersection(first[i], second[i]);
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int isPointInside() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++) if (first[i].isPointInside(xs[i], ys[i])) count++;
+        return count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void cloneRectangle(Blackhole blackhole) {
+        for (int i = 0; i < SIZE; i++) blackhole.consume(first[i].clone());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int hashCodeRectangle() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) sum += first[i].hashCode();
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int equalsRectangle() {
+        int count = 0;
+        for (int i = 0; i < SIZE; i++) if (first[i].equals(second[i])) count++;
+        return count;
+    }
+
+    /// Retângulo com canto inferior esquerdo em '[origin, origin + range)' e lados menores que 'maxSide'.
+    private static Rectangle random(Random random, int origin, int range, int maxSide) {
+        int x1 = origin + random.nextInt(range), y1 = random.nextInt(range);
+        return new Rectangle(x1, y1, x1 + random.nextInt(maxSide), y1 + random.nextInt(maxSide));
+    }
+
+    /// Retângulo que contém '(center, center)', com cada borda a menos de 'reach' do centro.
+    private static Rectangle around(Random random, int center, int reach) {
+        return new Rectangle(center - random.nextInt(reach), center - random.nextInt(reach),
+                center + random.nextInt(reach), center + random.nextInt(reach));
+    }
+}
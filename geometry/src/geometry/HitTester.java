@@ -0,0 +1,299 @@
+package geometry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/// Teste de pontos contra um conjunto estático de retângulos, como regiões clicáveis de uma tela.
+///
+/// Na construção, as coordenadas são comprimidas: as bordas 'x1' e 'x2 + 1' dividem o eixo x em faixas verticais, e
+/// as bordas 'y1' e 'y2 + 1' dividem o eixo y em faixas horizontais. Dentro de uma faixa, o conjunto de retângulos
+/// que cobre a coordenada é constante, e cada faixa guarda esse conjunto como um mapa de bits (um bit por retângulo).
+/// Os retângulos que contêm '(x, y)' são exatamente a interseção dos mapas da faixa de 'x' e da faixa de 'y':
+///
+/// - localizar as faixas é uma consulta a uma tabela direta quando o eixo ocupa até '2^20' coordenadas, como em
+///   uma tela, e uma busca binária sobre no máximo '2n' bordas nos demais casos;
+/// - a contagem é a soma de 'Long.bitCount' sobre 'n / 64' palavras, e a lista sai dos bits ligados, em ordem
+///   crescente de índice.
+///
+/// Para alguns milhares de retângulos, isso são poucas dezenas de palavras por ponto, sem percorrer os retângulos.
+/// A memória é de 'O(n²)' bits — cerca de 2 MB para 2.000 retângulos —, em vez dos 'O(n²)' inteiros de uma grade
+/// de contagens sobre as coordenadas comprimidas.
+///
+/// As bordas são inclusivas, como em [Rectangle#isPointInside(int, int)]. Os índices relatados são as posições dos
+/// retângulos na coleção de entrada, cujas coordenadas são copiadas: alterar os retângulos depois não afeta o índice.
+/// Depois de construída, a instância é imutável e pode ser consultada por várias threads.
+public final class HitTester {
+
+    /// Recebe cada par (ponto, retângulo) da consulta em lote.
+    @FunctionalInterface
+    public interface HitConsumer {
+
+        /// @param point     O índice do ponto nos arrays de consulta.
+        /// @param rectangle O índice do retângulo que contém o ponto.
+        void accept(int point, int rectangle);
+    }
+
+    /// Maior extensão de eixo coberta por uma tabela direta (4 MB por eixo).
+    private static final int LOOKUP_LIMIT = 1 << 20;
+
+    private final int size;
+    private final int words;
+
+    /// Bordas das faixas: a faixa 'i' é '[xBounds[i], xBounds[i + 1])'.
+    private final long[] xBounds, yBounds;
+
+    /// Mapas de bits das faixas: a faixa 'i' ocupa as palavras '[i * words, (i + 1) * words)'.
+    private final long[] xBits, yBits;
+
+    /// Tabelas diretas de coordenada para faixa ('null' se o eixo for extenso demais).
+    private final int[] xLookup, yLookup;
+
+    /// Constrói o índice sobre os retângulos.
+    ///
+    /// @param rectangles Os retângulos; os índices relatados são posições nesta coleção.
+    public HitTester(Collection<? extends Rectangle> rectangles) {
+        size = rectangles.size();
+        words = (size + 63) >>> 6;
+
+        long[] x1 = new long[size], y1 = new long[size], x2 = new long[size], y2 = new long[size];
+
+        int i = 0;
+        for (Rectangle r : rectangles) {
+            x1[i] = r.getX1();
+            y1[i] = r.getY1();
+            x2[i] = r.getX2() + 1L;
+            y2[i] = r.getY2() + 1L;
+            i++;
+        }
+
+        xBounds = bounds(x1, x2);
+        yBounds = bounds(y1, y2);
+        xBits = slabs(xBounds, x1, x2);
+        yBits = slabs(yBounds, y1, y2);
+        xLookup = lookup(xBounds);
+        yLookup = lookup(yBounds);
+    }
+
+    /// Retorna a quantidade de retângulos indexados.
+    ///
+    /// @return O tamanho do índice.
+    public int size() {
+        return size;
+    }
+
+    /// Conta os retângulos que contêm o ponto.
+    ///
+    /// @param x Coordenada x do ponto.
+    /// @param y Coordenada y do ponto.
+    /// @return A quantidade de retângulos que contêm o ponto.
+    public int count(int x, int y) {
+        int column = slab(xBounds, xLookup, x), row = slab(yBounds, yLookup, y);
+        if (column < 0 || row < 0) return 0;
+
+        int c = column * words, r = row * words, count = 0;
+        for (int w = 0; w < words; w++) count += Long.bitCount(xBits[c + w] & yBits[r + w]);
+
+        return count;
+    }
+
+    /// Verifica se algum retângulo contém o ponto.
+    ///
+    /// @param x Coordenada x do ponto.
+    /// @param y Coordenada y do ponto.
+    /// @return 'true' se o ponto estiver dentro ou na borda de algum retângulo; caso contrário, 'false'.
+    public boolean isHit(int x, int y) {
+        return first(x, y) >= 0;
+    }
+
+    /// Retorna o menor índice entre os retângulos que contêm o ponto (por exemplo, o que está por cima).
+    ///
+    /// @param x Coordenada x do ponto.
+    /// @param y Coordenada y do ponto.
+    /// @return O índice do retângulo, ou '-1' se nenhum contiver o ponto.
+    public int first(int x, int y) {
+        int column = slab(xBounds, xLookup, x), row = slab(yBounds, yLookup, y);
+        if (column < 0 || row < 0) return -1;
+
+        int c = column * words, r = row * words;
+
+        for (int w = 0; w < words; w++) {
+            long bits = xBits[c + w] & yBits[r + w];
+            if (bits != 0) return (w << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        return -1;
+    }
+
+    /// Relata os retângulos que contêm o ponto, em ordem crescente de índice.
+    ///
+    /// @param x        Coordenada x do ponto.
+    /// @param y        Coordenada y do ponto.
+    /// @param consumer Recebe o índice de cada retângulo que contém o ponto.
+    /// @return A quantidade de retângulos relatados.
+    public int containing(int x, int y, IntConsumer consumer) {
+        int column = slab(xBounds, xLookup, x), row = slab(yBounds, yLookup, y);
+        if (column < 0 || row < 0) return 0;
+
+        int c = column * words, r = row * words, count = 0;
+
+        for (int w = 0; w < words; w++) {
+            for (long bits = xBits[c + w] & yBits[r + w]; bits != 0; bits &= bits - 1) {
+                consumer.accept((w << 6) + Long.numberOfTrailingZeros(bits));
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /// Conta, para cada ponto, os retângulos que o contêm.
+    ///
+    /// @param xs     As coordenadas x dos pontos.
+    /// @param ys     As coordenadas y dos pontos.
+    /// @param count  A quantidade de pontos, a partir da posição '0'.
+    /// @param counts O array de saída; 'counts[i]' recebe a contagem do ponto 'i'.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições.
+    public void count(int[] xs, int[] ys, int count, int[] counts) {
+        checkLengths(count, xs.length, ys.length, counts.length);
+
+        for (int i = 0; i < count; i++) counts[i] = count(xs[i], ys[i]);
+    }
+
+    /// Retorna, para cada ponto, o menor índice entre os retângulos que o contêm.
+    ///
+    /// @param xs     As coordenadas x dos pontos.
+    /// @param ys     As coordenadas y dos pontos.
+    /// @param count  A quantidade de pontos, a partir da posição '0'.
+    /// @param firsts O array de saída; 'firsts[i]' recebe o índice para o ponto 'i', ou '-1'.
+    /// @return A quantidade de pontos contidos em algum retângulo.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições.
+    public int first(int[] xs, int[] ys, int count, int[] firsts) {
+        checkLengths(count, xs.length, ys.length, firsts.length);
+
+        int hits = 0;
+        for (int i = 0; i < count; i++) {
+            firsts[i] = first(xs[i], ys[i]);
+            if (firsts[i] >= 0) hits++;
+        }
+
+        return hits;
+    }
+
+    /// Relata cada par (ponto, retângulo) em que o retângulo contém o ponto.
+    ///
+    /// @param xs       As coordenadas x dos pontos.
+    /// @param ys       As coordenadas y dos pontos.
+    /// @param count    A quantidade de pontos, a partir da posição '0'.
+    /// @param consumer Recebe o índice do ponto e o índice do retângulo, em ordem crescente de ponto e de retângulo.
+    /// @return A quantidade de pares relatados.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições.
+    public long containing(int[] xs, int[] ys, int count, HitConsumer consumer) {
+        checkLengths(count, xs.length, ys.length);
+
+        long hits = 0;
+
+        for (int i = 0; i < count; i++) {
+            int column = slab(xBounds, xLookup, xs[i]), row = slab(yBounds, yLookup, ys[i]);
+            if (column < 0 || row < 0) continue;
+
+            int c = column * words, r = row * words;
+
+            for (int w = 0; w < words; w++) {
+                for (long bits = xBits[c + w] & yBits[r + w]; bits != 0; bits &= bits - 1) {
+                    consumer.accept(i, (w << 6) + Long.numberOfTrailingZeros(bits));
+                    hits++;
+                }
+            }
+        }
+
+        return hits;
+    }
+
+    /// Bordas distintas e ordenadas das faixas de um eixo.
+    private static long[] bounds(long[] from, long[] to) {
+        int n = from.length;
+        long[] bounds = new long[2 * n];
+
+        System.arraycopy(from, 0, bounds, 0, n);
+        System.arraycopy(to, 0, bounds, n, n);
+        Arrays.sort(bounds);
+
+        int distinct = 0;
+        for (int i = 0; i < bounds.length; i++)
+            if (i == 0 || bounds[i] != bounds[distinct - 1]) bounds[distinct++] = bounds[i];
+
+        return Arrays.copyOf(bounds, distinct);
+    }
+
+    /// Mapas de bits das faixas: o bit 'k' da faixa 'i' indica que o retângulo 'k' cobre a faixa.
+    ///
+    /// Percorre as faixas em ordem, mantendo o conjunto ativo em um mapa corrente que recebe os retângulos que começam
+    /// na faixa e perde os que terminam nela, e copia esse mapa para cada faixa.
+    private long[] slabs(long[] bounds, long[] from, long[] to) {
+        int slabs = Math.max(0, bounds.length - 1), n = from.length;
+        long[] bits = new long[Math.multiplyExact(slabs, words)];
+        if (slabs == 0) return bits;
+
+        // Eventos de entrada e saída, ordenados pela faixa: '(faixa << 32) | retângulo'.
+        long[] starts = new long[n], ends = new long[n];
+        for (int k = 0; k < n; k++) {
+            starts[k] = (long) Arrays.binarySearch(bounds, from[k]) << 32 | k;
+            ends[k] = (long) Arrays.binarySearch(bounds, to[k]) << 32 | k;
+        }
+
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+
+        long[] active = new long[words];
+        int s = 0, e = 0;
+
+        for (int slab = 0; slab < slabs; slab++) {
+            for (; e < n && (int) (ends[e] >>> 32) == slab; e++) {
+                int k = (int) ends[e];
+                active[k >>> 6] &= ~(1L << k);
+            }
+            for (; s < n && (int) (starts[s] >>> 32) == slab; s++) {
+                int k = (int) starts[s];
+                active[k >>> 6] |= 1L << k;
+            }
+
+            System.arraycopy(active, 0, bits, slab * words, words);
+        }
+
+        return bits;
+    }
+
+    /// Tabela direta do eixo: a posição 'value - bounds[0]' guarda a faixa de 'value'.
+    private static int[] lookup(long[] bounds) {
+        if (bounds.length < 2 || bounds[bounds.length - 1] - bounds[0] > LOOKUP_LIMIT) return null;
+
+        int[] lookup = new int[(int) (bounds[bounds.length - 1] - bounds[0])];
+
+        for (int slab = 0; slab < bounds.length - 1; slab++)
+            Arrays.fill(lookup, (int) (bounds[slab] - bounds[0]), (int) (bounds[slab + 1] - bounds[0]), slab);
+
+        return lookup;
+    }
+
+    /// Índice da faixa que contém 'value', ou '-1' se estiver fora de todas.
+    private static int slab(long[] bounds, int[] lookup, int value) {
+        if (lookup != null) {
+            long offset = value - bounds[0];
+            return offset >= 0 && offset < lookup.length ? lookup[(int) offset] : -1;
+        }
+
+        int i = Arrays.binarySearch(bounds, value);
+        if (i < 0) i = -i - 2;
+
+        return i < bounds.length - 1 ? i : -1;
+    }
+
+    /// Verifica se todos os arrays têm ao menos 'count' posições.
+    private static void checkLengths(int count, int... lengths) {
+        if (count < 0) throw new IllegalArgumentException("Quantidade inválida: " + count);
+
+        for (int length : lengths)
+            if (length < count) throw new IllegalArgumentException("Array com " + length + " posições para " + count + " pontos.");
+    }
+}
@@ -0,0 +1,143 @@
+package geometry;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/// Retângulo imutável com as mesmas coordenadas e a mesma semântica de bordas inclusivas de [Rectangle].
+///
+/// Diferente de [Rectangle], não possui setters e pode ser compartilhado livremente entre threads. Também corrige o
+/// código hash: [Rectangle#hashCode()] multiplica as coordenadas entre si, de modo que todo retângulo com 'x1 == 0'
+/// tem hash '0' e os demais se concentram em poucos valores. Aqui as quatro coordenadas são empacotadas em uma chave
+/// de 128 bits ('low' = '(x1, y1)' e 'high' = '(x2, y2)') e o hash é o finalizador do MurmurHash3 sobre a chave.
+///
+/// A chave empacotada também é a forma usada por [RectangleSet] para armazenar retângulos sem objetos por elemento.
+///
+/// @param x1 Coordenada x do canto inferior esquerdo.
+/// @param y1 Coordenada y do canto inferior esquerdo.
+/// @param x2 Coordenada x do canto superior direito.
+/// @param y2 Coordenada y do canto superior direito.
+public record ImmutableRectangle(int x1, int y1, int x2, int y2) {
+
+    /// Valida as coordenadas.
+    ///
+    /// @throws IllegalArgumentException Se as coordenadas não formarem um retângulo válido.
+    public ImmutableRectangle {
+        if (x1 > x2 || y1 > y2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+    }
+
+    /// Cria um retângulo imutável com as coordenadas de um [Rectangle].
+    ///
+    /// @param rectangle O retângulo de origem.
+    /// @return O retângulo imutável equivalente.
+    public static ImmutableRectangle of(Rectangle rectangle) {
+        return new ImmutableRectangle(rectangle.getX1(), rectangle.getY1(), rectangle.getX2(), rectangle.getY2());
+    }
+
+    /// Reconstrói um retângulo a partir da sua chave empacotada.
+    ///
+    /// @param low  A metade inferior da chave, ver [#low()].
+    /// @param high A metade superior da chave, ver [#high()].
+    /// @return O retângulo correspondente.
+    /// @throws IllegalArgumentException Se a chave não representar um retângulo válido.
+    public static ImmutableRectangle of(long low, long high) {
+        return new ImmutableRectangle((int) (low >> 32), (int) low, (int) (high >> 32), (int) high);
+    }
+
+    /// Converte este retângulo em um [Rectangle] mutável.
+    ///
+    /// @return Um novo 'Rectangle' com as mesmas coordenadas.
+    public Rectangle toRectangle() {
+        return new Rectangle(x1, y1, x2, y2);
+    }
+
+    /// Retorna a metade inferior da chave de 128 bits: 'x1' nos 32 bits altos e 'y1' nos 32 bits baixos.
+    ///
+    /// @return O canto inferior esquerdo empacotado.
+    public long low() {
+        return pack(x1, y1);
+    }
+
+    /// Retorna a metade superior da chave de 128 bits: 'x2' nos 32 bits altos e 'y2' nos 32 bits baixos.
+    ///
+    /// @return O canto superior direito empacotado.
+    public long high() {
+        return pack(x2, y2);
+    }
+
+    /// Calcula a área do retângulo, com a mesma aritmética 'int' de [Rectangle#calculateArea()].
+    ///
+    /// @return A área do retângulo.
+    public int calculateArea() {
+        return (x2 - x1 + 1) * (y2 - y1 + 1);
+    }
+
+    /// Verifica se um ponto está dentro ou na borda do retângulo.
+    ///
+    /// @param x Coordenada x do ponto.
+    /// @param y Coordenada y do ponto.
+    /// @return 'true' se o ponto está dentro do retângulo; caso contrário, 'false'.
+    public boolean isPointInside(int x, int y) {
+        return x >= x1 && x <= x2 &&
+               y >= y1 && y <= y2;
+    }
+
+    /// Metodo estático que verifica se dois retângulos se intersectam, como [Rectangle#isIntersection].
+    ///
+    /// @param r1 O primeiro retângulo.
+    /// @param r2 O segundo retângulo.
+    /// @return 'true' se os retângulos se intersectam; caso contrário, 'false'.
+    public static boolean isIntersection(ImmutableRectangle r1, ImmutableRectangle r2) {
+        if (r1.x2 < r2.x1 || r2.x2 < r1.x1) return false;
+        return r1.y2 >= r2.y1 && r2.y2 >= r1.y1;
+    }
+
+    /// Metodo estático que calcula a área de interseção entre dois retângulos, como [Rectangle#areaOfIntersection],
+    /// sem alocar o retângulo de interseção.
+    ///
+    /// @param r1 O primeiro retângulo.
+    /// @param r2 O segundo retângulo.
+    /// @return A área da interseção; se não houver interseção, retorna '0'.
+    public static int areaOfIntersection(ImmutableRectangle r1, ImmutableRectangle r2) {
+        int left = max(r1.x1, r2.x1), right = min(r1.x2, r2.x2);
+        int bottom = max(r1.y1, r2.y1), top = min(r1.y2, r2.y2);
+
+        if (left > right || bottom > top) return 0;
+
+        return (right - left + 1) * (top - bottom + 1);
+    }
+
+    /// Calcula o código hash a partir da chave de 128 bits.
+    ///
+    /// Retângulos iguais têm o mesmo hash, e qualquer diferença em uma coordenada altera, em média, metade dos bits.
+    ///
+    /// @return O código hash do retângulo.
+    @Override
+    public int hashCode() {
+        long hash = hash(low(), high());
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /// Retorna uma representação em 'String' no mesmo formato de [Rectangle#toString()].
+    ///
+    /// @return Uma 'String' representando o retângulo.
+    @Override
+    public String toString() {
+        return "Retangulo [(" + x1 + ", " + y1 + "), (" + x2 + ", " + y2 + ")]";
+    }
+
+    /// Empacota um ponto em um 'long': 'x' nos 32 bits altos e 'y' nos 32 bits baixos.
+    static long pack(int x, int y) {
+        return (long) x << 32 | (y & 0xFFFFFFFFL);
+    }
+
+    /// Hash de 64 bits da chave '(low, high)': combina as metades e aplica o finalizador do MurmurHash3.
+    static long hash(long low, long high) {
+        long hash = low * 0x9E3779B97F4A7C15L + high;
+
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,286 @@
+package geometry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/// Junção espacial que encontra todos os pares de retângulos que se intersectam, com a área de cada interseção.
+///
+/// Substitui o laço duplo O(n²) sobre [Rectangle#isIntersection(Rectangle, Rectangle)] por uma varredura em x:
+///
+/// - os retângulos são processados em ordem crescente de 'x1'; antes de processar um retângulo, saem do conjunto
+///   ativo todos os que terminam antes dele ('x2 < x1' do atual), em ordem crescente de 'x2';
+/// - os intervalos 'y' dos retângulos ativos ficam em uma árvore de intervalos estática: as posições são os
+///   retângulos ordenados por 'y1' e cada nó guarda o maior 'y2' ativo da sua subárvore. Os ativos que cruzam
+///   '[y1, y2]' do atual são os de 'y1 ≤ y2' do atual (um prefixo) com 'y2 ≥ y1' do atual, encontrados descendo
+///   apenas pelos nós cujo máximo alcança 'y1'.
+///
+/// Cada par é relatado uma única vez, em tempo O(n log n + k log n) para 'k' pares, e a área relatada é sempre igual
+/// a [Rectangle#areaOfIntersection(Rectangle, Rectangle)], inclusive no estouro de 'int' para retângulos enormes.
+/// Como em [Rectangle], as bordas são inclusivas: retângulos que apenas se tocam formam um par.
+///
+/// O modo paralelo divide o plano em faixas verticais pelos quantis de 'x1'. Cada par pertence à faixa que contém
+/// 'max(x1)' do par — a borda esquerda da interseção —, de modo que as faixas são processadas de forma independente
+/// e nenhum par é relatado duas vezes.
+public final class IntersectionJoin {
+
+    /// Valor das posições inativas na árvore de intervalos.
+    private static final long INACTIVE = Long.MIN_VALUE;
+
+    private IntersectionJoin() {
+    }
+
+    /// Recebe cada par de retângulos que se intersectam.
+    @FunctionalInterface
+    public interface PairConsumer {
+
+        /// @param first  O índice, na lista de entrada, do primeiro retângulo do par (sempre menor que 'second').
+        /// @param second O índice do segundo retângulo do par.
+        /// @param area   A área da interseção, igual a [Rectangle#areaOfIntersection(Rectangle, Rectangle)].
+        void accept(int first, int second, int area);
+    }
+
+    /// Relata todos os pares de retângulos que se intersectam, em uma única thread.
+    ///
+    /// @param rectangles Os retângulos; os índices relatados são posições nesta lista.
+    /// @param consumer   Recebe cada par uma única vez, na ordem da varredura.
+    public static void forEachPair(List<? extends Rectangle> rectangles, PairConsumer consumer) {
+        Coordinates coordinates = new Coordinates(rectangles);
+        int[] byX1 = coordinates.sortedByX1();
+
+        new Sweep(coordinates, byX1, byX1.length, Integer.MIN_VALUE, consumer).run();
+    }
+
+    /// Relata todos os pares de retângulos que se intersectam, dividindo o trabalho entre os núcleos disponíveis.
+    ///
+    /// @param rectangles Os retângulos; os índices relatados são posições nesta lista.
+    /// @param consumer   Recebe cada par uma única vez. É chamado simultaneamente por várias threads, em ordem não
+    ///                   especificada, e deve ser seguro para uso concorrente.
+    public static void forEachPairParallel(List<? extends Rectangle> rectangles, PairConsumer consumer) {
+        forEachPairParallel(rectangles, Runtime.getRuntime().availableProcessors() * 4, consumer);
+    }
+
+    /// Relata todos os pares de retângulos que se intersectam, processando 'partitions' faixas verticais em paralelo.
+    ///
+    /// @param rectangles Os retângulos; os índices relatados são posições nesta lista.
+    /// @param partitions A quantidade de faixas (mais faixas equilibram melhor a carga, mas cada faixa reprocessa os
+    ///                   retângulos que vêm das faixas anteriores).
+    /// @param consumer   Recebe cada par uma única vez, possivelmente de várias threads ao mesmo tempo.
+    /// @throws IllegalArgumentException Se 'partitions' não for positivo.
+    public static void forEachPairParallel(List<? extends Rectangle> rectangles, int partitions, PairConsumer consumer) {
+        if (partitions < 1) throw new IllegalArgumentException("Quantidade de faixas inválida: " + partitions);
+
+        Coordinates coordinates = new Coordinates(rectangles);
+        int[] byX1 = coordinates.sortedByX1();
+        int n = byX1.length;
+        int strips = min(partitions, max(1, n));
+
+        IntStream.range(0, strips).parallel().forEach(strip -> {
+            // A faixa relata os pares cujo 'max(x1)' está em [from, to).
+            int first = (int) ((long) strip * n / strips), next = (int) ((long) (strip + 1) * n / strips);
+
+            // Retângulos com o mesmo 'x1' ficam sempre na mesma faixa: a anterior absorve os empates da fronteira.
+            while (first > 0 && first < next && coordinates.x1[byX1[first]] == coordinates.x1[byX1[first - 1]]) first++;
+            if (first == next) return;
+
+            int end = next;
+            while (end < n && coordinates.x1[byX1[end]] == coordinates.x1[byX1[end - 1]]) end++;
+
+            int from = coordinates.x1[byX1[first]];
+
+            // Membros: os retângulos da faixa e os anteriores que ainda estão ativos em 'from'.
+            int[] members = new int[end];
+            int count = 0;
+
+            for (int position = 0; position < end; position++) {
+                int id = byX1[position];
+                if (position >= first || coordinates.x2[id] >= from) members[count++] = id;
+            }
+
+            new Sweep(coordinates, members, count, from, consumer).run();
+        });
+    }
+
+    /// Conta os pares de retângulos que se intersectam.
+    ///
+    /// @param rectangles Os retângulos.
+    /// @return A quantidade de pares.
+    public static long countPairs(List<? extends Rectangle> rectangles) {
+        LongAdder pairs = new LongAdder();
+        forEachPairParallel(rectangles, (first, second, area) -> pairs.increment());
+        return pairs.sum();
+    }
+
+    /// Coordenadas dos retângulos de entrada, copiadas para arrays primitivos.
+    private static final class Coordinates {
+
+        final int[] x1, y1, x2, y2;
+
+        Coordinates(List<? extends Rectangle> rectangles) {
+            int n = rectangles.size();
+            x1 = new int[n];
+            y1 = new int[n];
+            x2 = new int[n];
+            y2 = new int[n];
+
+            int i = 0;
+            for (Rectangle r : rectangles) {
+                x1[i] = r.getX1();
+                y1[i] = r.getY1();
+                x2[i] = r.getX2();
+                y2[i] = r.getY2();
+                i++;
+            }
+        }
+
+        /// Índices dos retângulos em ordem crescente de 'x1'.
+        int[] sortedByX1() {
+            return sortedBy(x1, identity(x1.length), x1.length);
+        }
+    }
+
+    /// Varredura sobre um subconjunto dos retângulos ('members', em ordem crescente de 'x1').
+    private static final class Sweep {
+
+        private final Coordinates c;
+        private final int[] members;
+        private final int count;
+        private final int reportFrom;
+        private final PairConsumer consumer;
+
+        /// Árvore de máximos sobre as posições em ordem de 'y1' ('Long.MIN_VALUE' = inativo, abaixo de qualquer 'y2').
+        private final long[] tree;
+        private final int leaves;
+
+        /// 'slotY1[s]' e 'slotMember[s]': 'y1' e índice local do membro na posição 's'; 'slotOf[k]': posição do membro 'k'.
+        private final int[] slotY1, slotMember, slotOf;
+
+        private int currentId;
+
+        Sweep(Coordinates c, int[] members, int count, int reportFrom, PairConsumer consumer) {
+            this.c = c;
+            this.members = members;
+            this.count = count;
+            this.reportFrom = reportFrom;
+            this.consumer = consumer;
+
+            int[] local = identity(count);
+            int[] byY1 = sortedBy(c.y1, members, local, count);
+
+            slotY1 = new int[count];
+            slotMember = byY1;
+            slotOf = new int[count];
+
+            for (int s = 0; s < count; s++) {
+                slotY1[s] = c.y1[members[byY1[s]]];
+                slotOf[byY1[s]] = s;
+            }
+
+            leaves = Integer.highestOneBit(max(1, count - 1)) << 1;
+            tree = new long[2 * leaves];
+            Arrays.fill(tree, INACTIVE);
+        }
+
+        void run() {
+            int[] byX2 = sortedBy(c.x2, members, identity(count), count);
+            int expired = 0;
+
+            for (int k = 0; k < count; k++) {
+                int id = members[k], x = c.x1[id];
+
+                // Saem os ativos que terminam antes de 'x' (bordas inclusivas: 'x2 == x' ainda intersecta).
+                while (expired < count && c.x2[members[byX2[expired]]] < x)
+                    set(slotOf[byX2[expired++]], INACTIVE);
+
+                if (x >= reportFrom) {
+                    currentId = id;
+                    int limit = upperBound(slotY1, count, c.y2[id]);
+                    if (limit > 0) report(1, 0, leaves, limit, c.y1[id]);
+                }
+
+                set(slotOf[k], c.y2[id]);
+            }
+        }
+
+        /// Relata as posições ativas em '[0, limit)' com 'y2 ≥ minY2', descendo pelo nó 'node' que cobre '[lo, hi)'.
+        private void report(int node, int lo, int hi, int limit, int minY2) {
+            if (lo >= limit || tree[node] < minY2) return;
+
+            if (node >= leaves) {
+                int other = members[slotMember[node - leaves]];
+                pair(currentId, other);
+                return;
+            }
+
+            int mid = (lo + hi) >>> 1;
+            report(2 * node, lo, mid, limit, minY2);
+            report(2 * node + 1, mid, hi, limit, minY2);
+        }
+
+        private void pair(int a, int b) {
+            int left = max(c.x1[a], c.x1[b]), right = min(c.x2[a], c.x2[b]);
+            int bottom = max(c.y1[a], c.y1[b]), top = min(c.y2[a], c.y2[b]);
+
+            // Mesma aritmética 'int' de Rectangle.calculateArea sobre o retângulo de interseção.
+            int area = (right - left + 1) * (top - bottom + 1);
+
+            if (a < b) consumer.accept(a, b, area);
+            else consumer.accept(b, a, area);
+        }
+
+        private void set(int slot, long value) {
+            int node = slot + leaves;
+            tree[node] = value;
+
+            for (node >>>= 1; node > 0; node >>>= 1)
+                tree[node] = max(tree[2 * node], tree[2 * node + 1]);
+        }
+    }
+
+    /// Quantidade de valores de 'sorted[0, n)' menores ou iguais a 'key'.
+    private static int upperBound(int[] sorted, int n, int key) {
+        int lo = 0, hi = n;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] <= key) lo = mid + 1;
+            else hi = mid;
+        }
+
+        return lo;
+    }
+
+    private static int[] identity(int n) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) ids[i] = i;
+        return ids;
+    }
+
+    /// Ordena 'ids[0, n)' pela coordenada 'key[ids[i]]' (empates pelo próprio índice).
+    private static int[] sortedBy(int[] key, int[] ids, int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) keys[i] = (long) key[ids[i]] << 32 | ids[i];
+
+        Arrays.parallelSort(keys);
+
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) sorted[i] = (int) keys[i];
+        return sorted;
+    }
+
+    /// Ordena os índices locais '0..n-1' pela coordenada 'key[members[local]]'.
+    private static int[] sortedBy(int[] key, int[] members, int[] local, int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) keys[i] = (long) key[members[local[i]]] << 32 | local[i];
+
+        Arrays.sort(keys);
+
+        int[] sorted = new int[n];
+        for (int i = 0; i < n; i++) sorted[i] = (int) keys[i];
+        return sorted;
+    }
+}
@@ -0,0 +1,297 @@
+package geometry;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/// Cálculo de áreas e interseções em 'long', sem estouro silencioso.
+///
+/// [Rectangle#calculateArea()] multiplica largura e altura em 'int' e [Rectangle#getWidth()] subtrai coordenadas em
+/// 'int', de modo que retângulos que cobrem faixas grandes do plano — como ladrilhos de mapas em zoom profundo —
+/// produzem resultados errados sem qualquer aviso. Aqui, com a mesma semântica de bordas inclusivas:
+///
+/// - as larguras e alturas são calculadas em 'long' e, se algum lado tiver '2^31' células ou mais, o produto passa
+///   por [Math#multiplyExact(long, long)]; nos demais casos o produto cabe em 62 bits e é feito diretamente;
+/// - as somas usam [Math#addExact(long, long)];
+/// - coordenadas de entrada em 'long' são aceitas; um lado com mais de 'Long.MAX_VALUE' células também é detectado.
+///
+/// Quando o resultado não cabe em um 'long', é lançada [ArithmeticException] em vez de um valor truncado. Com
+/// coordenadas 'int', isso só acontece para retângulos com os dois lados próximos de '2^32' células.
+///
+/// Os métodos em lote recebem as coordenadas em arrays paralelos ('int[]' ou 'long[]', como em [RectangleBatch]) e
+/// usam o mesmo núcleo escalar para os dois tipos, sem objetos nem 'BigInteger' por elemento.
+public final class LongArea {
+
+    private LongArea() {
+    }
+
+    /// Retorna a largura do retângulo, como [Rectangle#getWidth()], sem estouro.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'x2 - x1', calculado em 'long'.
+    public static long getWidth(Rectangle rectangle) {
+        return (long) rectangle.getX2() - rectangle.getX1();
+    }
+
+    /// Retorna a altura do retângulo, como [Rectangle#getHeight()], sem estouro.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'y2 - y1', calculado em 'long'.
+    public static long getHeight(Rectangle rectangle) {
+        return (long) rectangle.getY2() - rectangle.getY1();
+    }
+
+    /// Calcula a área do retângulo, como [Rectangle#calculateArea()], em 'long'.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return A área do retângulo.
+    /// @throws ArithmeticException Se a área não couber em um 'long'.
+    public static long calculateArea(Rectangle rectangle) {
+        return area(rectangle.getX1(), rectangle.getY1(), rectangle.getX2(), rectangle.getY2());
+    }
+
+    /// Calcula a área do retângulo, como [ImmutableRectangle#calculateArea()], em 'long'.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return A área do retângulo.
+    /// @throws ArithmeticException Se a área não couber em um 'long'.
+    public static long calculateArea(ImmutableRectangle rectangle) {
+        return area(rectangle.x1(), rectangle.y1(), rectangle.x2(), rectangle.y2());
+    }
+
+    /// Calcula a área do retângulo '(x1, y1; x2, y2)' com coordenadas 'long', bordas incluídas.
+    ///
+    /// @param x1 Coordenada x do canto inferior esquerdo.
+    /// @param y1 Coordenada y do canto inferior esquerdo.
+    /// @param x2 Coordenada x do canto superior direito.
+    /// @param y2 Coordenada y do canto superior direito.
+    /// @return A área do retângulo.
+    /// @throws IllegalArgumentException Se as coordenadas não formarem um retângulo válido.
+    /// @throws ArithmeticException      Se a área não couber em um 'long'.
+    public static long calculateArea(long x1, long y1, long x2, long y2) {
+        if (x1 > x2 || y1 > y2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        return area(x1, y1, x2, y2);
+    }
+
+    /// Metodo estático que calcula a área de interseção entre dois retângulos, como
+    /// [Rectangle#areaOfIntersection(Rectangle, Rectangle)], em 'long' e sem alocar o retângulo de interseção.
+    ///
+    /// @param r1 O primeiro retângulo.
+    /// @param r2 O segundo retângulo.
+    /// @return A área da interseção; se não houver interseção, retorna '0'.
+    /// @throws ArithmeticException Se a área não couber em um 'long'.
+    public static long areaOfIntersection(Rectangle r1, Rectangle r2) {
+        return intersection(
+                r1.getX1(), r1.getY1(), r1.getX2(), r1.getY2(),
+                r2.getX1(), r2.getY1(), r2.getX2(), r2.getY2()
+        );
+    }
+
+    /// Metodo estático que calcula a área de interseção entre dois retângulos imutáveis, em 'long'.
+    ///
+    /// @param r1 O primeiro retângulo.
+    /// @param r2 O segundo retângulo.
+    /// @return A área da interseção; se não houver interseção, retorna '0'.
+    /// @throws ArithmeticException Se a área não couber em um 'long'.
+    public static long areaOfIntersection(ImmutableRectangle r1, ImmutableRectangle r2) {
+        return intersection(r1.x1(), r1.y1(), r1.x2(), r1.y2(), r2.x1(), r2.y1(), r2.x2(), r2.y2());
+    }
+
+    /// Calcula as áreas de 'count' retângulos com coordenadas 'int'.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @param areas O array de saída; 'areas[i]' recebe a área do retângulo 'i'.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições ou algum retângulo for inválido.
+    /// @throws ArithmeticException      Se alguma área não couber em um 'long'.
+    public static void calculateAreas(int[] x1, int[] y1, int[] x2, int[] y2, int count, long[] areas) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length, areas.length);
+
+        for (int i = 0; i < count; i++) areas[i] = validArea(x1[i], y1[i], x2[i], y2[i]);
+    }
+
+    /// Calcula as áreas de 'count' retângulos com coordenadas 'long'.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @param areas O array de saída; 'areas[i]' recebe a área do retângulo 'i'.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições ou algum retângulo for inválido.
+    /// @throws ArithmeticException      Se alguma área não couber em um 'long'.
+    public static void calculateAreas(long[] x1, long[] y1, long[] x2, long[] y2, int count, long[] areas) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length, areas.length);
+
+        for (int i = 0; i < count; i++) areas[i] = validArea(x1[i], y1[i], x2[i], y2[i]);
+    }
+
+    /// Soma as áreas de 'count' retângulos com coordenadas 'int', sem considerar sobreposições.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @return A soma das áreas.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições ou algum retângulo for inválido.
+    /// @throws ArithmeticException      Se a soma não couber em um 'long'.
+    public static long sumOfAreas(int[] x1, int[] y1, int[] x2, int[] y2, int count) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length);
+
+        long sum = 0;
+        for (int i = 0; i < count; i++) sum = Math.addExact(sum, validArea(x1[i], y1[i], x2[i], y2[i]));
+        return sum;
+    }
+
+    /// Soma as áreas de 'count' retângulos com coordenadas 'long', sem considerar sobreposições.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @return A soma das áreas.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições ou algum retângulo for inválido.
+    /// @throws ArithmeticException      Se a soma não couber em um 'long'.
+    public static long sumOfAreas(long[] x1, long[] y1, long[] x2, long[] y2, int count) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length);
+
+        long sum = 0;
+        for (int i = 0; i < count; i++) sum = Math.addExact(sum, validArea(x1[i], y1[i], x2[i], y2[i]));
+        return sum;
+    }
+
+    /// Calcula a área de interseção de cada um de 'count' retângulos com coordenadas 'int' com a consulta.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @param query O retângulo de consulta.
+    /// @param areas O array de saída; 'areas[i]' recebe a área de interseção do retângulo 'i' com a consulta.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições.
+    /// @throws ArithmeticException      Se alguma área não couber em um 'long'.
+    public static void areasOfIntersection(int[] x1, int[] y1, int[] x2, int[] y2, int count, Rectangle query, long[] areas) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length, areas.length);
+
+        long qx1 = query.getX1(), qy1 = query.getY1(), qx2 = query.getX2(), qy2 = query.getY2();
+
+        for (int i = 0; i < count; i++) areas[i] = intersection(x1[i], y1[i], x2[i], y2[i], qx1, qy1, qx2, qy2);
+    }
+
+    /// Calcula a área de interseção de cada um de 'count' retângulos com coordenadas 'long' com a consulta
+    /// '(qx1, qy1; qx2, qy2)'.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @param qx1   Coordenada x do canto inferior esquerdo da consulta.
+    /// @param qy1   Coordenada y do canto inferior esquerdo da consulta.
+    /// @param qx2   Coordenada x do canto superior direito da consulta.
+    /// @param qy2   Coordenada y do canto superior direito da consulta.
+    /// @param areas O array de saída; 'areas[i]' recebe a área de interseção do retângulo 'i' com a consulta.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições ou a consulta for inválida.
+    /// @throws ArithmeticException      Se alguma área não couber em um 'long'.
+    public static void areasOfIntersection(long[] x1, long[] y1, long[] x2, long[] y2, int count,
+                                           long qx1, long qy1, long qx2, long qy2, long[] areas) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length, areas.length);
+        if (qx1 > qx2 || qy1 > qy2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        for (int i = 0; i < count; i++) areas[i] = intersection(x1[i], y1[i], x2[i], y2[i], qx1, qy1, qx2, qy2);
+    }
+
+    /// Soma as áreas de interseção de 'count' retângulos com coordenadas 'int' com a consulta.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @param query O retângulo de consulta.
+    /// @return A soma das áreas de interseção.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições.
+    /// @throws ArithmeticException      Se a soma não couber em um 'long'.
+    public static long sumOfAreasOfIntersection(int[] x1, int[] y1, int[] x2, int[] y2, int count, Rectangle query) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length);
+
+        long qx1 = query.getX1(), qy1 = query.getY1(), qx2 = query.getX2(), qy2 = query.getY2();
+        long sum = 0;
+
+        for (int i = 0; i < count; i++)
+            sum = Math.addExact(sum, intersection(x1[i], y1[i], x2[i], y2[i], qx1, qy1, qx2, qy2));
+
+        return sum;
+    }
+
+    /// Soma as áreas de interseção de 'count' retângulos com coordenadas 'long' com a consulta
+    /// '(qx1, qy1; qx2, qy2)'.
+    ///
+    /// @param x1    As coordenadas x1.
+    /// @param y1    As coordenadas y1.
+    /// @param x2    As coordenadas x2.
+    /// @param y2    As coordenadas y2.
+    /// @param count A quantidade de retângulos, a partir da posição '0'.
+    /// @param qx1   Coordenada x do canto inferior esquerdo da consulta.
+    /// @param qy1   Coordenada y do canto inferior esquerdo da consulta.
+    /// @param qx2   Coordenada x do canto superior direito da consulta.
+    /// @param qy2   Coordenada y do canto superior direito da consulta.
+    /// @return A soma das áreas de interseção.
+    /// @throws IllegalArgumentException Se algum array tiver menos de 'count' posições ou a consulta for inválida.
+    /// @throws ArithmeticException      Se a soma não couber em um 'long'.
+    public static long sumOfAreasOfIntersection(long[] x1, long[] y1, long[] x2, long[] y2, int count,
+                                                long qx1, long qy1, long qx2, long qy2) {
+        checkLengths(count, x1.length, y1.length, x2.length, y2.length);
+        if (qx1 > qx2 || qy1 > qy2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        long sum = 0;
+
+        for (int i = 0; i < count; i++)
+            sum = Math.addExact(sum, intersection(x1[i], y1[i], x2[i], y2[i], qx1, qy1, qx2, qy2));
+
+        return sum;
+    }
+
+    /// Área da interseção entre '(ax1, ay1; ax2, ay2)' e '(bx1, by1; bx2, by2)', ou '0' se forem disjuntos.
+    private static long intersection(long ax1, long ay1, long ax2, long ay2, long bx1, long by1, long bx2, long by2) {
+        long left = max(ax1, bx1), right = min(ax2, bx2);
+        long bottom = max(ay1, by1), top = min(ay2, by2);
+
+        if (left > right || bottom > top) return 0;
+
+        return area(left, bottom, right, top);
+    }
+
+    /// Área de um retângulo que ainda não foi validado.
+    private static long validArea(long x1, long y1, long x2, long y2) {
+        if (x1 > x2 || y1 > y2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        return area(x1, y1, x2, y2);
+    }
+
+    /// Núcleo comum: área de um retângulo válido ('x1 ≤ x2' e 'y1 ≤ y2').
+    private static long area(long x1, long y1, long x2, long y2) {
+        // Como 'x2 ≥ x1', a quantidade de células só fica não positiva se 'x2 - x1 + 1' estourar.
+        long width = x2 - x1 + 1, height = y2 - y1 + 1;
+        if (width <= 0 || height <= 0) throw new ArithmeticException("long overflow");
+
+        // Caminho rápido: com os dois lados abaixo de 2^31, o produto cabe em 62 bits.
+        if (((width | height) >>> 31) == 0) return width * height;
+
+        return Math.multiplyExact(width, height);
+    }
+
+    /// Verifica se todos os arrays têm ao menos 'count' posições.
+    private static void checkLengths(int count, int... lengths) {
+        if (count < 0) throw new IllegalArgumentException("Quantidade inválida: " + count);
+
+        for (int length : lengths)
+            if (length < count) throw new IllegalArgumentException("Array com " + length + " posições para " + count + " retângulos.");
+    }
+}
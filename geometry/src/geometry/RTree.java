@@ -0,0 +1,617 @@
+package geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+/// Índice espacial (R-tree) de retângulos para consultas por janela, por ponto e por vizinhos mais próximos.
+///
+/// A árvore pode ser construída de uma só vez com [#bulkLoad(Collection)], que usa o empacotamento Sort-Tile-Recursive
+/// (STR) e produz nós quase cheios e pouco sobrepostos, ou incrementalmente com [#insert(Rectangle)] e
+/// [#remove(Rectangle)]. A divisão de nós cheios segue a heurística do R*-tree: escolhe o eixo de menor perímetro
+/// total e, nele, a distribuição de menor sobreposição.
+///
+/// Cada nó guarda os retângulos envolventes dos filhos em quatro arrays de 'int' (x1, y1, x2, y2), de modo que a
+/// varredura de um nó percorre memória contígua. As coordenadas de cada retângulo são copiadas na inserção: um
+/// retângulo não deve ser alterado (por 'setX1' etc.) enquanto estiver no índice — remova-o, altere-o e insira-o
+/// novamente.
+///
+/// Todas as consultas usam a mesma convenção de bordas inclusivas de [Rectangle]: um retângulo é devolvido por
+/// [#search(Rectangle)] se, e somente se, [Rectangle#isIntersection(Rectangle, Rectangle)] for 'true', e por
+/// [#searchPoint(int, int)] se, e somente se, [Rectangle#isPointInside(int, int)] for 'true'.
+///
+/// Esta classe não é segura para uso concorrente com escritas; consultas simultâneas sem escritas são seguras.
+public class RTree {
+
+    /// Quantidade máxima de entradas por nó.
+    static final int MAX_ENTRIES = 32;
+
+    /// Quantidade mínima de entradas por nó (exceto a raiz) após remoções.
+    static final int MIN_ENTRIES = 12;
+
+    private Node root;
+    private int size;
+    private int height;
+
+    /// Cria um índice vazio.
+    public RTree() {
+        this.root = new Node(true);
+        this.height = 1;
+    }
+
+    /// Constrói um índice com os retângulos informados usando o empacotamento Sort-Tile-Recursive.
+    ///
+    /// Os retângulos são ordenados pelo centro em x, divididos em faixas verticais e, dentro de cada faixa, ordenados
+    /// pelo centro em y e agrupados em folhas de [#MAX_ENTRIES] entradas; o processo se repete sobre os nós de cada
+    /// nível até restar a raiz. As ordenações são feitas sobre chaves 'long' primitivas, sem comparadores.
+    ///
+    /// @param rectangles Os retângulos a serem indexados.
+    /// @return Um novo índice contendo os retângulos.
+    /// @throws NullPointerException Se a coleção ou algum retângulo for 'null'.
+    public static RTree bulkLoad(Collection<? extends Rectangle> rectangles) {
+        RTree tree = new RTree();
+        Object[] items = rectangles.toArray();
+        int n = items.length, count = n;
+
+        if (n == 0) return tree;
+
+        int[] x1 = new int[n], y1 = new int[n], x2 = new int[n], y2 = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            Rectangle r = (Rectangle) requireNonNull(items[i], "O retângulo não pode ser nulo.");
+            x1[i] = r.getX1();
+            y1[i] = r.getY1();
+            x2[i] = r.getX2();
+            y2[i] = r.getY2();
+        }
+
+        boolean leaf = true;
+        int height = 1;
+
+        while (true) {
+            Node[] nodes = pack(items, x1, y1, x2, y2, n, leaf);
+
+            if (nodes.length == 1) {
+                tree.root = nodes[0];
+                break;
+            }
+
+            // Os nós deste nível passam a ser os itens do próximo.
+            n = nodes.length;
+            items = nodes;
+            x1 = new int[n];
+            y1 = new int[n];
+            x2 = new int[n];
+            y2 = new int[n];
+
+            for (int i = 0; i < n; i++) {
+                Node node = nodes[i];
+                x1[i] = node.minX1();
+                y1[i] = node.minY1();
+                x2[i] = node.maxX2();
+                y2[i] = node.maxY2();
+            }
+
+            leaf = false;
+            height++;
+        }
+
+        tree.size = count;
+        tree.height = height;
+        return tree;
+    }
+
+    /// Agrupa 'n' itens em nós de um nível com o STR.
+    private static Node[] pack(Object[] items, int[] x1, int[] y1, int[] x2, int[] y2, int n, boolean leaf) {
+        int nodeCount = ceilDiv(n, MAX_ENTRIES);
+        int slices = (int) Math.ceil(Math.sqrt(nodeCount));
+        int sliceSize = ceilDiv(nodeCount, slices) * MAX_ENTRIES;
+
+        // Chave = centro (32 bits com sinal) seguido do índice: a ordenação de 'long' ordena pelo centro.
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++)
+            order[i] = (long) center(x1[i], x2[i]) << 32 | i;
+
+        Arrays.parallelSort(order);
+
+        Node[] nodes = new Node[nodeCount];
+        int created = 0;
+
+        for (int start = 0; start < n; start += sliceSize) {
+            int end = min(n, start + sliceSize);
+
+            for (int j = start; j < end; j++) {
+                int i = (int) order[j];
+                order[j] = (long) center(y1[i], y2[i]) << 32 | i;
+            }
+
+            Arrays.sort(order, start, end);
+
+            for (int first = start; first < end; first += MAX_ENTRIES) {
+                Node node = new Node(leaf);
+
+                for (int j = first, last = min(end, first + MAX_ENTRIES); j < last; j++) {
+                    int i = (int) order[j];
+                    node.add(items[i], x1[i], y1[i], x2[i], y2[i]);
+                    if (!leaf) ((Node) items[i]).parent = node;
+                }
+
+                nodes[created++] = node;
+            }
+        }
+
+        return created == nodeCount ? nodes : Arrays.copyOf(nodes, created);
+    }
+
+    /// Insere um retângulo no índice.
+    ///
+    /// O mesmo retângulo pode ser inserido mais de uma vez; cada inserção é uma entrada independente.
+    ///
+    /// @param rectangle O retângulo a ser inserido.
+    /// @throws NullPointerException Se o retângulo for 'null'.
+    public void insert(Rectangle rectangle) {
+        requireNonNull(rectangle, "O retângulo não pode ser nulo.");
+
+        insert(rectangle, rectangle.getX1(), rectangle.getY1(), rectangle.getX2(), rectangle.getY2());
+        size++;
+    }
+
+    /// Remove uma entrada do retângulo informado (comparado por identidade).
+    ///
+    /// A busca usa as coordenadas atuais do retângulo, que devem ser as mesmas do momento da inserção. Nós que ficam
+    /// com menos de [#MIN_ENTRIES] entradas são dissolvidos e suas entradas, reinseridas.
+    ///
+    /// @param rectangle O retângulo a ser removido.
+    /// @return 'true' se o retângulo estava no índice; caso contrário, 'false'.
+    public boolean remove(Rectangle rectangle) {
+        if (rectangle == null || size == 0) return false;
+
+        int rx1 = rectangle.getX1(), ry1 = rectangle.getY1(), rx2 = rectangle.getX2(), ry2 = rectangle.getY2();
+        Node leaf = findLeaf(root, rectangle, rx1, ry1, rx2, ry2);
+
+        if (leaf == null) return false;
+
+        leaf.removeAt(leaf.indexOf(rectangle));
+        condense(leaf);
+        size--;
+
+        // A raiz interna com um único filho é substituída por ele.
+        while (!root.leaf && root.size == 1) {
+            root = (Node) root.entries[0];
+            root.parent = null;
+            height--;
+        }
+
+        return true;
+    }
+
+    /// Retorna os retângulos que se intersectam com a janela, na semântica de [Rectangle#isIntersection].
+    ///
+    /// @param window A janela de consulta.
+    /// @return Os retângulos encontrados, em ordem não especificada.
+    public List<Rectangle> search(Rectangle window) {
+        List<Rectangle> result = new ArrayList<>();
+        search(window.getX1(), window.getY1(), window.getX2(), window.getY2(), result::add);
+        return result;
+    }
+
+    /// Executa a ação para cada retângulo que se intersecta com a janela '(x1, y1; x2, y2)', bordas incluídas.
+    ///
+    /// Não aloca objetos além dos que a própria ação alocar.
+    ///
+    /// @param x1     Coordenada x do canto inferior esquerdo da janela.
+    /// @param y1     Coordenada y do canto inferior esquerdo da janela.
+    /// @param x2     Coordenada x do canto superior direito da janela.
+    /// @param y2     Coordenada y do canto superior direito da janela.
+    /// @param action A ação executada para cada retângulo encontrado.
+    /// @throws IllegalArgumentException Se as coordenadas não formarem um retângulo válido.
+    public void search(int x1, int y1, int x2, int y2, Consumer<? super Rectangle> action) {
+        if (x1 > x2 || y1 > y2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        if (size > 0) search(root, x1, y1, x2, y2, action);
+    }
+
+    private static void search(Node node, int x1, int y1, int x2, int y2, Consumer<? super Rectangle> action) {
+        for (int i = 0; i < node.size; i++) {
+            // Mesmas comparações de Rectangle.isIntersection.
+            if (node.x2[i] < x1 || x2 < node.x1[i]) continue;
+            if (node.y2[i] < y1 || y2 < node.y1[i]) continue;
+
+            if (node.leaf) action.accept((Rectangle) node.entries[i]);
+            else search((Node) node.entries[i], x1, y1, x2, y2, action);
+        }
+    }
+
+    /// Retorna os retângulos que contêm o ponto, na semântica de [Rectangle#isPointInside(int, int)].
+    ///
+    /// @param x Coordenada x do ponto.
+    /// @param y Coordenada y do ponto.
+    /// @return Os retângulos que contêm o ponto (inclusive na borda), em ordem não especificada.
+    public List<Rectangle> searchPoint(int x, int y) {
+        List<Rectangle> result = new ArrayList<>();
+        searchPoint(x, y, result::add);
+        return result;
+    }
+
+    /// Executa a ação para cada retângulo que contém o ponto '(x, y)', bordas incluídas.
+    ///
+    /// @param x      Coordenada x do ponto.
+    /// @param y      Coordenada y do ponto.
+    /// @param action A ação executada para cada retângulo encontrado.
+    public void searchPoint(int x, int y, Consumer<? super Rectangle> action) {
+        // Um ponto é a janela degenerada (x, y; x, y): x1 <= x <= x2 e y1 <= y <= y2.
+        if (size > 0) search(root, x, y, x, y, action);
+    }
+
+    /// Retorna os 'k' retângulos mais próximos do ponto, do mais próximo ao mais distante.
+    ///
+    /// A distância é a euclidiana entre o ponto e o ponto mais próximo do retângulo, bordas incluídas; retângulos que
+    /// contêm o ponto têm distância '0'. A busca é best-first: nós são visitados em ordem crescente da distância ao
+    /// seu retângulo envolvente, e a busca termina assim que 'k' retângulos são retirados da fila.
+    ///
+    /// @param x Coordenada x do ponto.
+    /// @param y Coordenada y do ponto.
+    /// @param k A quantidade de vizinhos desejada.
+    /// @return Até 'k' retângulos, em ordem crescente de distância.
+    /// @throws IllegalArgumentException Se 'k' for negativo.
+    public List<Rectangle> nearest(int x, int y, int k) {
+        if (k < 0) throw new IllegalArgumentException("A quantidade de vizinhos não pode ser negativa: " + k);
+
+        List<Rectangle> result = new ArrayList<>(min(k, size));
+        if (k == 0 || size == 0) return result;
+
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        queue.add(new Candidate(0, root));
+
+        while (!queue.isEmpty() && result.size() < k) {
+            Object entry = queue.poll().entry();
+
+            if (entry instanceof Rectangle rectangle) {
+                result.add(rectangle);
+                continue;
+            }
+
+            Node node = (Node) entry;
+            for (int i = 0; i < node.size; i++)
+                queue.add(new Candidate(distance(x, y, node.x1[i], node.y1[i], node.x2[i], node.y2[i]), node.entries[i]));
+        }
+
+        return result;
+    }
+
+    /// Retorna a quantidade de retângulos no índice.
+    ///
+    /// @return O tamanho do índice.
+    public int size() {
+        return size;
+    }
+
+    /// Verifica se o índice está vazio.
+    ///
+    /// @return 'true' se não houver retângulos no índice.
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Retorna a altura da árvore (1 quando a raiz é uma folha).
+    ///
+    /// @return A altura da árvore.
+    public int height() {
+        return height;
+    }
+
+    /// Remove todos os retângulos do índice.
+    public void clear() {
+        root = new Node(true);
+        size = 0;
+        height = 1;
+    }
+
+    /// Insere a entrada com as coordenadas informadas, dividindo os nós que excederem a capacidade.
+    private void insert(Rectangle rectangle, int x1, int y1, int x2, int y2) {
+        Node node = root;
+
+        // Desce pelo filho de menor aumento de área, expandindo o retângulo envolvente no caminho.
+        while (!node.leaf) {
+            int best = chooseSubtree(node, x1, y1, x2, y2);
+            node.expand(best, x1, y1, x2, y2);
+            node = (Node) node.entries[best];
+        }
+
+        node.add(rectangle, x1, y1, x2, y2);
+
+        while (node.size > MAX_ENTRIES) {
+            Node sibling = split(node);
+            Node parent = node.parent;
+
+            if (parent == null) {
+                parent = new Node(false);
+                parent.add(node, node.minX1(), node.minY1(), node.maxX2(), node.maxY2());
+                node.parent = parent;
+                root = parent;
+                height++;
+            } else {
+                parent.tighten(parent.indexOf(node));
+            }
+
+            parent.add(sibling, sibling.minX1(), sibling.minY1(), sibling.maxX2(), sibling.maxY2());
+            sibling.parent = parent;
+            node = parent;
+        }
+    }
+
+    /// Escolhe o filho cujo retângulo envolvente menos cresce ao incluir a entrada (empate: o de menor área).
+    private static int chooseSubtree(Node node, int x1, int y1, int x2, int y2) {
+        int best = 0;
+        long bestEnlargement = Long.MAX_VALUE, bestArea = Long.MAX_VALUE;
+
+        for (int i = 0; i < node.size; i++) {
+            long area = area(node.x1[i], node.y1[i], node.x2[i], node.y2[i]);
+            long enlarged = area(min(node.x1[i], x1), min(node.y1[i], y1), max(node.x2[i], x2), max(node.y2[i], y2));
+            long enlargement = enlarged - area;
+
+            if (enlargement < bestEnlargement || (enlargement == bestEnlargement && area < bestArea)) {
+                best = i;
+                bestEnlargement = enlargement;
+                bestArea = area;
+            }
+        }
+
+        return best;
+    }
+
+    /// Divide um nó com [#MAX_ENTRIES] + 1 entradas, mantendo um grupo no próprio nó e devolvendo o outro em um novo
+    /// nó irmão (heurística do R*-tree).
+    private static Node split(Node node) {
+        int n = node.size;
+        int[] byX = sortedBy(node.x1, n), byY = sortedBy(node.y1, n);
+        int[] order = marginSum(node, byX) <= marginSum(node, byY) ? byX : byY;
+
+        // Bounding boxes dos prefixos e sufixos da ordem escolhida.
+        int[][] prefix = boxes(node, order, true), suffix = boxes(node, order, false);
+
+        int bestSplit = MIN_ENTRIES;
+        long bestOverlap = Long.MAX_VALUE, bestArea = Long.MAX_VALUE;
+
+        for (int k = MIN_ENTRIES; k <= n - MIN_ENTRIES; k++) {
+            int[] a = prefix[k - 1], b = suffix[k];
+            long overlap = area(max(a[0], b[0]), max(a[1], b[1]), min(a[2], b[2]), min(a[3], b[3]));
+            long area = area(a[0], a[1], a[2], a[3]) + area(b[0], b[1], b[2], b[3]);
+
+            if (overlap < bestOverlap || (overlap == bestOverlap && area < bestArea)) {
+                bestSplit = k;
+                bestOverlap = overlap;
+                bestArea = area;
+            }
+        }
+
+        Object[] entries = node.entries.clone();
+        int[] x1 = node.x1.clone(), y1 = node.y1.clone(), x2 = node.x2.clone(), y2 = node.y2.clone();
+        Node sibling = new Node(node.leaf);
+        node.size = 0;
+
+        for (int j = 0; j < n; j++) {
+            int i = order[j];
+            Node target = j < bestSplit ? node : sibling;
+
+            target.add(entries[i], x1[i], y1[i], x2[i], y2[i]);
+            if (!node.leaf) ((Node) entries[i]).parent = target;
+        }
+
+        Arrays.fill(node.entries, node.size, node.entries.length, null);
+        return sibling;
+    }
+
+    /// Índices '0..n-1' ordenados pela coordenada informada.
+    private static int[] sortedBy(int[] coordinate, int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) keys[i] = (long) coordinate[i] << 32 | i;
+
+        Arrays.sort(keys);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = (int) keys[i];
+
+        return order;
+    }
+
+    /// Soma dos perímetros dos dois grupos em todas as distribuições válidas da ordem informada.
+    private static long marginSum(Node node, int[] order) {
+        int[][] prefix = boxes(node, order, true), suffix = boxes(node, order, false);
+        long sum = 0;
+
+        for (int k = MIN_ENTRIES; k <= node.size - MIN_ENTRIES; k++)
+            sum += margin(prefix[k - 1]) + margin(suffix[k]);
+
+        return sum;
+    }
+
+    /// Retângulos envolventes acumulados: 'boxes[j]' envolve as entradas 'order[0..j]' (prefixo) ou
+    /// 'order[j..n-1]' (sufixo).
+    private static int[][] boxes(Node node, int[] order, boolean prefix) {
+        int n = node.size;
+        int[][] boxes = new int[n][];
+        int[] box = null;
+
+        for (int step = 0; step < n; step++) {
+            int j = prefix ? step : n - 1 - step;
+            int i = order[j];
+
+            box = box == null
+                    ? new int[]{node.x1[i], node.y1[i], node.x2[i], node.y2[i]}
+                    : new int[]{min(box[0], node.x1[i]), min(box[1], node.y1[i]), max(box[2], node.x2[i]), max(box[3], node.y2[i])};
+            boxes[j] = box;
+        }
+
+        return boxes;
+    }
+
+    /// Localiza a folha que contém o retângulo (por identidade), descendo apenas pelos nós que o envolvem.
+    private static Node findLeaf(Node node, Rectangle rectangle, int x1, int y1, int x2, int y2) {
+        if (node.leaf) return node.indexOf(rectangle) >= 0 ? node : null;
+
+        for (int i = 0; i < node.size; i++) {
+            if (node.x1[i] > x1 || node.y1[i] > y1 || node.x2[i] < x2 || node.y2[i] < y2) continue;
+
+            Node leaf = findLeaf((Node) node.entries[i], rectangle, x1, y1, x2, y2);
+            if (leaf != null) return leaf;
+        }
+
+        return null;
+    }
+
+    /// Sobe da folha até a raiz, dissolvendo os nós com menos de [#MIN_ENTRIES] entradas e ajustando os retângulos
+    /// envolventes; por fim, reinsere as entradas dos nós dissolvidos.
+    private void condense(Node node) {
+        List<Node> dissolved = new ArrayList<>();
+
+        while (node.parent != null) {
+            Node parent = node.parent;
+            int i = parent.indexOf(node);
+
+            if (node.size < MIN_ENTRIES) {
+                parent.removeAt(i);
+                dissolved.add(node);
+            } else {
+                parent.tighten(i);
+            }
+
+            node = parent;
+        }
+
+        for (Node subtree : dissolved) reinsert(subtree);
+    }
+
+    private void reinsert(Node node) {
+        for (int i = 0; i < node.size; i++) {
+            if (node.leaf) insert((Rectangle) node.entries[i], node.x1[i], node.y1[i], node.x2[i], node.y2[i]);
+            else reinsert((Node) node.entries[i]);
+        }
+    }
+
+    /// Área discreta (bordas incluídas) do retângulo, ou '0' se ele for vazio.
+    private static long area(int x1, int y1, int x2, int y2) {
+        if (x1 > x2 || y1 > y2) return 0;
+        return ((long) x2 - x1 + 1) * ((long) y2 - y1 + 1);
+    }
+
+    private static long margin(int[] box) {
+        return ((long) box[2] - box[0]) + ((long) box[3] - box[1]);
+    }
+
+    /// Distância euclidiana entre o ponto e o retângulo (bordas incluídas).
+    private static double distance(int x, int y, int x1, int y1, int x2, int y2) {
+        double dx = max(0L, max((long) x1 - x, (long) x - x2));
+        double dy = max(0L, max((long) y1 - y, (long) y - y2));
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private static int center(int low, int high) {
+        return (int) (((long) low + high) >> 1);
+    }
+
+    private static int ceilDiv(int a, int b) {
+        return (a + b - 1) / b;
+    }
+
+    /// Entrada da fila de prioridade da busca por vizinhos: um nó ou um retângulo e a sua distância ao ponto.
+    private record Candidate(double distance, Object entry) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            return Double.compare(distance, other.distance);
+        }
+    }
+
+    /// Nó da árvore. As entradas são retângulos (nas folhas) ou nós filhos, cada uma com o seu retângulo envolvente.
+    private static final class Node {
+
+        final boolean leaf;
+        final Object[] entries = new Object[MAX_ENTRIES + 1];
+        final int[] x1 = new int[MAX_ENTRIES + 1];
+        final int[] y1 = new int[MAX_ENTRIES + 1];
+        final int[] x2 = new int[MAX_ENTRIES + 1];
+        final int[] y2 = new int[MAX_ENTRIES + 1];
+        Node parent;
+        int size;
+
+        Node(boolean leaf) {
+            this.leaf = leaf;
+        }
+
+        void add(Object entry, int x1, int y1, int x2, int y2) {
+            entries[size] = entry;
+            this.x1[size] = x1;
+            this.y1[size] = y1;
+            this.x2[size] = x2;
+            this.y2[size] = y2;
+            size++;
+        }
+
+        /// Remove a entrada movendo a última para o seu lugar (a ordem das entradas é irrelevante).
+        void removeAt(int i) {
+            int last = --size;
+
+            entries[i] = entries[last];
+            x1[i] = x1[last];
+            y1[i] = y1[last];
+            x2[i] = x2[last];
+            y2[i] = y2[last];
+            entries[last] = null;
+        }
+
+        int indexOf(Object entry) {
+            for (int i = 0; i < size; i++)
+                if (entries[i] == entry) return i;
+
+            return -1;
+        }
+
+        void expand(int i, int x1, int y1, int x2, int y2) {
+            this.x1[i] = min(this.x1[i], x1);
+            this.y1[i] = min(this.y1[i], y1);
+            this.x2[i] = max(this.x2[i], x2);
+            this.y2[i] = max(this.y2[i], y2);
+        }
+
+        /// Recalcula o retângulo envolvente da entrada 'i' a partir das entradas do nó filho.
+        void tighten(int i) {
+            Node child = (Node) entries[i];
+
+            x1[i] = child.minX1();
+            y1[i] = child.minY1();
+            x2[i] = child.maxX2();
+            y2[i] = child.maxY2();
+        }
+
+        int minX1() {
+            int value = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) value = min(value, x1[i]);
+            return value;
+        }
+
+        int minY1() {
+            int value = Integer.MAX_VALUE;
+            for (int i = 0; i < size; i++) value = min(value, y1[i]);
+            return value;
+        }
+
+        int maxX2() {
+            int value = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) value = max(value, x2[i]);
+            return value;
+        }
+
+        int maxY2() {
+            int value = Integer.MIN_VALUE;
+            for (int i = 0; i < size; i++) value = max(value, y2[i]);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package geometry;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/// Rasterizador que transforma conjuntos de retângulos em mapas de cobertura ou de contagem sobre a grade de pixels
+/// do enunciado: o retângulo '(0, 0; 1, 1)' pinta quatro pixels.
+///
+/// A tela '[x0, x0 + width) × [y0, y0 + height)' é dividida em ladrilhos quadrados de lado 'tileSize', e cada
+/// ladrilho guarda os identificadores dos retângulos que o tocam. Cada ladrilho é rasterizado de forma independente,
+/// em paralelo:
+///
+/// - [Mode#COVERAGE]: um bit por pixel, em um 'long[]' com 'tileSize / 64' palavras por linha, preenchido com
+///   máscaras de palavra inteira;
+/// - [Mode#COUNT]: um 'int' por pixel com a quantidade de retângulos, obtida por um array de diferenças 2D e somas
+///   de prefixo, em tempo proporcional aos pixels do ladrilho mais os retângulos, e não à área dos retângulos.
+///
+/// [#rasterize()] mantém em memória os ladrilhos rasterizados. Quando um retângulo muda (pelos setters, seguido de
+/// [#update(int)]) ou sai da tela, apenas os ladrilhos que ele tocava ou passou a tocar são marcados como sujos e
+/// rasterizados de novo na próxima chamada.
+///
+/// [#writePgm(Path)] grava a imagem faixa a faixa de ladrilhos, de cima para baixo, como no desenho de 'Main.java'.
+/// Ladrilhos que não estão em memória são rasterizados em um buffer temporário da faixa e descartados: para telas
+/// enormes, basta não chamar [#rasterize()], e a memória usada é a de uma faixa de ladrilhos.
+///
+/// Esta classe não é segura para uso concorrente; o paralelismo é interno.
+public final class Rasterizer {
+
+    /// O conteúdo de cada pixel.
+    public enum Mode {
+
+        /// Um bit por pixel: coberto ou não.
+        COVERAGE,
+
+        /// A quantidade de retângulos que cobrem o pixel.
+        COUNT
+    }
+
+    private final int x0, y0, width, height;
+    private final int tileSize;
+    private final int tilesX, tilesY;
+    private final Mode mode;
+
+    // Retângulos, indexados pelo identificador, e o intervalo de ladrilhos de cada um ('tileX1 = -1' = fora da tela).
+    private Rectangle[] rectangles = new Rectangle[16];
+    private int[] tileX1 = new int[16], tileY1 = new int[16], tileX2 = new int[16], tileY2 = new int[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int handles;
+    private int size;
+
+    // Ladrilhos: membros e conteúdo em memória ('null' = não rasterizado).
+    private final int[][] members;
+    private final int[] memberCount;
+    private final long[][] bits;
+    private final int[][] counts;
+    private final boolean[] dirty;
+
+    /// Cria um rasterizador vazio.
+    ///
+    /// @param x0       Coordenada x do pixel mais à esquerda da tela.
+    /// @param y0       Coordenada y do pixel mais abaixo da tela.
+    /// @param width    A largura da tela, em pixels.
+    /// @param height   A altura da tela, em pixels.
+    /// @param tileSize O lado dos ladrilhos, múltiplo de 64.
+    /// @param mode     O conteúdo de cada pixel.
+    /// @throws IllegalArgumentException Se a tela for vazia, ultrapassar o plano 'int' ou 'tileSize' não for um
+    ///                                  múltiplo positivo de 64.
+    public Rasterizer(int x0, int y0, int width, int height, int tileSize, Mode mode) {
+        if (width < 1 || height < 1 || (long) x0 + width - 1 > Integer.MAX_VALUE || (long) y0 + height - 1 > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Tela inválida: " + width + " x " + height + " em (" + x0 + ", " + y0 + ").");
+        if (tileSize < 64 || tileSize % 64 != 0)
+            throw new IllegalArgumentException("O lado dos ladrilhos deve ser um múltiplo positivo de 64: " + tileSize);
+
+        this.x0 = x0;
+        this.y0 = y0;
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.mode = mode;
+
+        tilesX = (int) (((long) width + tileSize - 1) / tileSize);
+        tilesY = (int) (((long) height + tileSize - 1) / tileSize);
+
+        int tiles = Math.multiplyExact(tilesX, tilesY);
+        members = new int[tiles][];
+        memberCount = new int[tiles];
+        bits = mode == Mode.COVERAGE ? new long[tiles][] : null;
+        counts = mode == Mode.COUNT ? new int[tiles][] : null;
+        dirty = new boolean[tiles];
+    }
+
+    /// Adiciona um retângulo. Retângulos total ou parcialmente fora da tela são aceitos e recortados.
+    ///
+    /// @param rectangle O retângulo. O rasterizador guarda a referência, e não uma cópia.
+    /// @return O identificador do retângulo, usado em [#update(int)] e [#remove(int)].
+    /// @throws IllegalArgumentException Se o retângulo for 'null'.
+    public int add(Rectangle rectangle) {
+        if (rectangle == null) throw new IllegalArgumentException("O retângulo não pode ser nulo.");
+
+        int handle = freeCount > 0 ? free[--freeCount] : newHandle();
+
+        rectangles[handle] = rectangle;
+        size++;
+        place(handle);
+
+        return handle;
+    }
+
+    /// Atualiza um retângulo depois que as suas coordenadas mudaram, marcando como sujos os ladrilhos que ele tocava
+    /// e os que passou a tocar.
+    ///
+    /// @param handle O identificador do retângulo.
+    /// @throws IllegalArgumentException Se o identificador não for válido.
+    public void update(int handle) {
+        check(handle);
+
+        unplace(handle);
+        place(handle);
+    }
+
+    /// Remove um retângulo, marcando como sujos os ladrilhos que ele tocava.
+    ///
+    /// @param handle O identificador do retângulo.
+    /// @throws IllegalArgumentException Se o identificador não for válido.
+    public void remove(int handle) {
+        check(handle);
+
+        unplace(handle);
+        rectangles[handle] = null;
+        free[freeCount++] = handle;
+        size--;
+    }
+
+    /// Retorna a quantidade de retângulos.
+    ///
+    /// @return A quantidade de retângulos adicionados e não removidos.
+    public int size() {
+        return size;
+    }
+
+    /// Rasteriza, em paralelo, os ladrilhos sujos ou ainda não rasterizados, mantendo-os em memória.
+    ///
+    /// @return A quantidade de ladrilhos rasterizados.
+    public int rasterize() {
+        int[] pending = IntStream.range(0, dirty.length).filter(t -> dirty[t] || !isCached(t)).toArray();
+
+        Arrays.stream(pending).parallel().forEach(this::refresh);
+
+        return pending.length;
+    }
+
+    /// Retorna a quantidade de retângulos que cobrem o pixel, rasterizando o ladrilho se necessário.
+    ///
+    /// No modo [Mode#COVERAGE], retorna '1' para pixels cobertos.
+    ///
+    /// @param x Coordenada x do pixel.
+    /// @param y Coordenada y do pixel.
+    /// @return A contagem do pixel, ou '0' se ele estiver fora da tela.
+    public int get(int x, int y) {
+        long px = (long) x - x0, py = (long) y - y0;
+        if (px < 0 || px >= width || py < 0 || py >= height) return 0;
+
+        int t = (int) (py / tileSize) * tilesX + (int) (px / tileSize);
+        int offset = (int) (py % tileSize) * tileSize + (int) (px % tileSize);
+
+        if (dirty[t] || !isCached(t)) refresh(t);
+
+        if (mode == Mode.COUNT) return counts[t][offset];
+        return (int) (bits[t][offset >>> 6] >>> offset) & 1;
+    }
+
+    /// Grava a tela como uma imagem PGM binária ('P5') com valor máximo 255, linha a linha, de 'y0 + height - 1' até
+    /// 'y0'. Pixels cobertos valem 255 no modo [Mode#COVERAGE]; no modo [Mode#COUNT], valem a contagem saturada em 255.
+    ///
+    /// @param path O arquivo de saída.
+    /// @throws UncheckedIOException Se ocorrer um erro de escrita.
+    public void writePgm(Path path) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 16)) {
+            writePgm(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// Grava a tela como uma imagem PGM binária no fluxo informado, sem fechá-lo.
+    ///
+    /// @param out O fluxo de saída.
+    /// @throws IOException Se ocorrer um erro de escrita.
+    public void writePgm(OutputStream out) throws IOException {
+        out.write(("P5\n" + width + " " + height + "\n255\n").getBytes(StandardCharsets.US_ASCII));
+
+        byte[] row = new byte[width];
+
+        for (int ty = tilesY - 1; ty >= 0; ty--) {
+            int first = ty * tilesX;
+
+            // Rasteriza a faixa em paralelo: os ladrilhos em memória são atualizados, os demais são temporários.
+            Object[] band = IntStream.range(first, first + tilesX).parallel().mapToObj(t -> {
+                if (!isCached(t)) return mode == Mode.COVERAGE ? coverage(t, null) : count(t, null);
+
+                if (dirty[t]) refresh(t);
+                return mode == Mode.COVERAGE ? bits[t] : counts[t];
+            }).toArray();
+
+            int rows = min(tileSize, height - ty * tileSize);
+
+            for (int y = rows - 1; y >= 0; y--) {
+                for (int tx = 0; tx < tilesX; tx++) {
+                    int columns = min(tileSize, width - tx * tileSize), base = tx * tileSize, offset = y * tileSize;
+
+                    if (mode == Mode.COVERAGE) {
+                        long[] tile = (long[]) band[tx];
+                        for (int x = 0; x < columns; x++)
+                            row[base + x] = (byte) -(int) ((tile[(offset + x) >>> 6] >>> (offset + x)) & 1);
+                    } else {
+                        int[] tile = (int[]) band[tx];
+                        for (int x = 0; x < columns; x++) row[base + x] = (byte) min(tile[offset + x], 255);
+                    }
+                }
+
+                out.write(row);
+            }
+        }
+
+        out.flush();
+    }
+
+    /// Rasteriza o ladrilho 't' e o mantém em memória.
+    private void refresh(int t) {
+        if (mode == Mode.COVERAGE) bits[t] = coverage(t, bits[t]);
+        else counts[t] = count(t, counts[t]);
+        dirty[t] = false;
+    }
+
+    /// Rasteriza o ladrilho 't' em modo de cobertura, reaproveitando 'tile' se não for 'null'.
+    private long[] coverage(int t, long[] tile) {
+        int wordsPerRow = tileSize >>> 6;
+        if (tile == null) tile = new long[tileSize * wordsPerRow];
+        else Arrays.fill(tile, 0);
+
+        int[] list = members[t], clip = new int[4];
+
+        for (int k = 0, n = memberCount[t]; k < n; k++) {
+            if (!clip(t, rectangles[list[k]], clip)) continue;
+
+            int fromWord = clip[0] >>> 6, toWord = clip[2] >>> 6;
+            long fromMask = -1L << clip[0], toMask = -1L >>> (63 - (clip[2] & 63));
+
+            for (int y = clip[1]; y <= clip[3]; y++) {
+                int base = y * wordsPerRow;
+
+                if (fromWord == toWord) {
+                    tile[base + fromWord] |= fromMask & toMask;
+                } else {
+                    tile[base + fromWord] |= fromMask;
+                    for (int w = fromWord + 1; w < toWord; w++) tile[base + w] = -1L;
+                    tile[base + toWord] |= toMask;
+                }
+            }
+        }
+
+        return tile;
+    }
+
+    /// Rasteriza o ladrilho 't' em modo de contagem, reaproveitando 'tile' se não for 'null'.
+    ///
+    /// O próprio ladrilho recebe primeiro o array de diferenças (os cantos que caem fora dele não afetam nenhum pixel
+    /// e são omitidos) e depois as somas de prefixo 2D, no lugar.
+    private int[] count(int t, int[] tile) {
+        if (tile == null) tile = new int[tileSize * tileSize];
+        else Arrays.fill(tile, 0);
+
+        int[] list = members[t], clip = new int[4];
+
+        for (int k = 0, n = memberCount[t]; k < n; k++) {
+            if (!clip(t, rectangles[list[k]], clip)) continue;
+
+            int right = clip[2] + 1, above = clip[3] + 1;
+
+            tile[clip[1] * tileSize + clip[0]]++;
+            if (right < tileSize) tile[clip[1] * tileSize + right]--;
+            if (above < tileSize) {
+                tile[above * tileSize + clip[0]]--;
+                if (right < tileSize) tile[above * tileSize + right]++;
+            }
+        }
+
+        for (int y = 0; y < tileSize; y++) {
+            int running = 0, base = y * tileSize;
+
+            for (int x = 0; x < tileSize; x++) {
+                running += tile[base + x];
+                tile[base + x] = running + (y > 0 ? tile[base - tileSize + x] : 0);
+            }
+        }
+
+        return tile;
+    }
+
+    /// Recorta o retângulo ao ladrilho 't' e à tela, escrevendo em 'clip' as coordenadas locais '{x1, y1, x2, y2}'.
+    ///
+    /// @return 'false' se o retângulo não tiver pixels no ladrilho.
+    private boolean clip(int t, Rectangle r, int[] clip) {
+        long left = (long) (t % tilesX) * tileSize, bottom = (long) (t / tilesX) * tileSize;
+        long right = min(left + tileSize, width) - 1, top = min(bottom + tileSize, height) - 1;
+
+        long x1 = max((long) r.getX1() - x0, left), x2 = min((long) r.getX2() - x0, right);
+        long y1 = max((long) r.getY1() - y0, bottom), y2 = min((long) r.getY2() - y0, top);
+
+        if (x1 > x2 || y1 > y2) return false;
+
+        clip[0] = (int) (x1 - left);
+        clip[1] = (int) (y1 - bottom);
+        clip[2] = (int) (x2 - left);
+        clip[3] = (int) (y2 - bottom);
+        return true;
+    }
+
+    /// Registra o retângulo nos ladrilhos que ele toca, marcando-os como sujos.
+    private void place(int handle) {
+        Rectangle r = rectangles[handle];
+
+        long x1 = max((long) r.getX1() - x0, 0), x2 = min((long) r.getX2() - x0, width - 1);
+        long y1 = max((long) r.getY1() - y0, 0), y2 = min((long) r.getY2() - y0, height - 1);
+
+        if (x1 > x2 || y1 > y2) {
+            tileX1[handle] = -1;
+            return;
+        }
+
+        tileX1[handle] = (int) (x1 / tileSize);
+        tileY1[handle] = (int) (y1 / tileSize);
+        tileX2[handle] = (int) (x2 / tileSize);
+        tileY2[handle] = (int) (y2 / tileSize);
+
+        for (int ty = tileY1[handle]; ty <= tileY2[handle]; ty++) {
+            for (int tx = tileX1[handle]; tx <= tileX2[handle]; tx++) {
+                int t = ty * tilesX + tx;
+                int[] list = members[t];
+
+                if (list == null) list = members[t] = new int[4];
+                else if (memberCount[t] == list.length) list = members[t] = Arrays.copyOf(list, list.length << 1);
+
+                list[memberCount[t]++] = handle;
+                dirty[t] = true;
+            }
+        }
+    }
+
+    /// Retira o retângulo dos ladrilhos em que estava registrado, marcando-os como sujos.
+    private void unplace(int handle) {
+        if (tileX1[handle] < 0) return;
+
+        for (int ty = tileY1[handle]; ty <= tileY2[handle]; ty++) {
+            for (int tx = tileX1[handle]; tx <= tileX2[handle]; tx++) {
+                int t = ty * tilesX + tx;
+                int[] list = members[t];
+                int n = memberCount[t];
+
+                for (int k = 0; k < n; k++) {
+                    if (list[k] == handle) {
+                        list[k] = list[n - 1];
+                        memberCount[t] = n - 1;
+                        break;
+                    }
+                }
+
+                dirty[t] = true;
+            }
+        }
+    }
+
+    private boolean isCached(int t) {
+        return mode == Mode.COVERAGE ? bits[t] != null : counts[t] != null;
+    }
+
+    private void check(int handle) {
+        if (handle < 0 || handle >= handles || rectangles[handle] == null)
+            throw new IllegalArgumentException("Identificador inválido: " + handle);
+    }
+
+    private int newHandle() {
+        if (handles == rectangles.length) {
+            int capacity = handles << 1;
+            rectangles = Arrays.copyOf(rectangles, capacity);
+            tileX1 = Arrays.copyOf(tileX1, capacity);
+            tileY1 = Arrays.copyOf(tileY1, capacity);
+            tileX2 = Arrays.copyOf(tileX2, capacity);
+            tileY2 = Arrays.copyOf(tileY2, capacity);
+            free = Arrays.copyOf(free, capacity);
+        }
+        return handles++;
+    }
+}
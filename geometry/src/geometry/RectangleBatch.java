@@ -0,0 +1,323 @@
+package geometry;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/// Lote de retângulos armazenado como estrutura de arrays: quatro 'int[]' paralelos com x1, y1, x2 e y2.
+///
+/// Um [Rectangle] é um objeto separado no heap, com cabeçalho e referência; percorrer milhões deles salta pela
+/// memória. Aqui, cada coordenada de todos os retângulos fica contígua, e os kernels em lote são laços simples sobre
+/// arrays primitivos, sem desvios dependentes de dados, que o compilador JIT pode vetorizar (SIMD). Nenhum kernel
+/// aloca objetos: os resultados são gravados em arrays fornecidos pelo chamador.
+///
+/// Os resultados são idênticos, bit a bit, aos dos métodos escalares de [Rectangle] — inclusive no estouro de 'int'
+/// de [Rectangle#calculateArea()] para retângulos enormes —, com a mesma convenção de bordas inclusivas.
+///
+/// Esta classe não é segura para uso concorrente com escritas.
+public class RectangleBatch {
+
+    private int[] x1, y1, x2, y2;
+    private int size;
+
+    /// Cria um lote vazio com capacidade inicial padrão.
+    public RectangleBatch() {
+        this(16);
+    }
+
+    /// Cria um lote vazio capaz de receber a quantidade informada de retângulos sem realocar.
+    ///
+    /// @param capacity A quantidade esperada de retângulos.
+    /// @throws IllegalArgumentException Se a capacidade for negativa.
+    public RectangleBatch(int capacity) {
+        if (capacity < 0) throw new IllegalArgumentException("Capacidade inválida: " + capacity);
+
+        x1 = new int[capacity];
+        y1 = new int[capacity];
+        x2 = new int[capacity];
+        y2 = new int[capacity];
+    }
+
+    /// Cria um lote com as coordenadas dos retângulos informados, na ordem da coleção.
+    ///
+    /// @param rectangles Os retângulos a serem copiados.
+    /// @return Um novo lote.
+    public static RectangleBatch of(Collection<? extends Rectangle> rectangles) {
+        RectangleBatch batch = new RectangleBatch(rectangles.size());
+        for (Rectangle r : rectangles) batch.add(r);
+        return batch;
+    }
+
+    /// Adiciona as coordenadas de um retângulo ao lote.
+    ///
+    /// @param rectangle O retângulo a ser copiado.
+    /// @return O índice do retângulo no lote.
+    public int add(Rectangle rectangle) {
+        return add(rectangle.getX1(), rectangle.getY1(), rectangle.getX2(), rectangle.getY2());
+    }
+
+    /// Adiciona um retângulo ao lote.
+    ///
+    /// @param x1 Coordenada x do canto inferior esquerdo.
+    /// @param y1 Coordenada y do canto inferior esquerdo.
+    /// @param x2 Coordenada x do canto superior direito.
+    /// @param y2 Coordenada y do canto superior direito.
+    /// @return O índice do retângulo no lote.
+    /// @throws IllegalArgumentException Se as coordenadas não formarem um retângulo válido.
+    public int add(int x1, int y1, int x2, int y2) {
+        if (x1 > x2 || y1 > y2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        if (size == this.x1.length) grow();
+
+        this.x1[size] = x1;
+        this.y1[size] = y1;
+        this.x2[size] = x2;
+        this.y2[size] = y2;
+        return size++;
+    }
+
+    /// Substitui as coordenadas do retângulo de índice 'index'.
+    ///
+    /// @param index O índice do retângulo.
+    /// @param x1    Nova coordenada x do canto inferior esquerdo.
+    /// @param y1    Nova coordenada y do canto inferior esquerdo.
+    /// @param x2    Nova coordenada x do canto superior direito.
+    /// @param y2    Nova coordenada y do canto superior direito.
+    /// @throws IllegalArgumentException Se as coordenadas não formarem um retângulo válido.
+    public void set(int index, int x1, int y1, int x2, int y2) {
+        checkIndex(index);
+        if (x1 > x2 || y1 > y2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        this.x1[index] = x1;
+        this.y1[index] = y1;
+        this.x2[index] = x2;
+        this.y2[index] = y2;
+    }
+
+    /// Retorna uma cópia do retângulo de índice 'index' como um [Rectangle].
+    ///
+    /// @param index O índice do retângulo.
+    /// @return Um novo 'Rectangle' com as mesmas coordenadas.
+    public Rectangle get(int index) {
+        checkIndex(index);
+        return new Rectangle(x1[index], y1[index], x2[index], y2[index]);
+    }
+
+    /// Retorna a quantidade de retângulos no lote.
+    ///
+    /// @return O tamanho do lote.
+    public int size() {
+        return size;
+    }
+
+    /// Remove todos os retângulos, mantendo a capacidade atual.
+    public void clear() {
+        size = 0;
+    }
+
+    /// Retorna a coordenada x1 (canto inferior esquerdo) do retângulo de índice 'index'.
+    ///
+    /// @param index O índice do retângulo.
+    /// @return Coordenada x1.
+    public int getX1(int index) {
+        checkIndex(index);
+        return x1[index];
+    }
+
+    /// Retorna a coordenada y1 (canto inferior esquerdo) do retângulo de índice 'index'.
+    ///
+    /// @param index O índice do retângulo.
+    /// @return Coordenada y1.
+    public int getY1(int index) {
+        checkIndex(index);
+        return y1[index];
+    }
+
+    /// Retorna a coordenada x2 (canto superior direito) do retângulo de índice 'index'.
+    ///
+    /// @param index O índice do retângulo.
+    /// @return Coordenada x2.
+    public int getX2(int index) {
+        checkIndex(index);
+        return x2[index];
+    }
+
+    /// Retorna a coordenada y2 (canto superior direito) do retângulo de índice 'index'.
+    ///
+    /// @param index O índice do retângulo.
+    /// @return Coordenada y2.
+    public int getY2(int index) {
+        checkIndex(index);
+        return y2[index];
+    }
+
+    /// Calcula a área de todos os retângulos, como [Rectangle#calculateArea()].
+    ///
+    /// @param areas Recebe em 'areas[i]' a área do retângulo 'i'; deve ter ao menos [#size()] posições.
+    public void calculateAreas(int[] areas) {
+        checkOutput(areas.length);
+
+        int[] x1 = this.x1, y1 = this.y1, x2 = this.x2, y2 = this.y2;
+
+        for (int i = 0; i < size; i++)
+            areas[i] = (x2[i] - x1[i] + 1) * (y2[i] - y1[i] + 1);
+    }
+
+    /// Soma as áreas de todos os retângulos em 'long', sem considerar sobreposições.
+    ///
+    /// Ao contrário de [#calculateAreas(int[])], não estoura com áreas acima de 'Integer.MAX_VALUE'; só estouraria
+    /// com retângulos de lados próximos de 2^32.
+    ///
+    /// @return A soma das áreas.
+    public long sumOfAreas() {
+        int[] x1 = this.x1, y1 = this.y1, x2 = this.x2, y2 = this.y2;
+        long sum = 0;
+
+        for (int i = 0; i < size; i++)
+            sum += ((long) x2[i] - x1[i] + 1) * ((long) y2[i] - y1[i] + 1);
+
+        return sum;
+    }
+
+    /// Verifica a interseção de todos os retângulos com a consulta, como [Rectangle#isIntersection].
+    ///
+    /// @param query         O retângulo de consulta.
+    /// @param intersections Recebe em 'intersections[i]' se o retângulo 'i' intersecta a consulta.
+    /// @return A quantidade de retângulos que intersectam a consulta.
+    public int isIntersection(Rectangle query, boolean[] intersections) {
+        checkOutput(intersections.length);
+
+        int qx1 = query.getX1(), qy1 = query.getY1(), qx2 = query.getX2(), qy2 = query.getY2();
+        int[] x1 = this.x1, y1 = this.y1, x2 = this.x2, y2 = this.y2;
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            boolean hit = x2[i] >= qx1 & qx2 >= x1[i] & y2[i] >= qy1 & qy2 >= y1[i];
+            intersections[i] = hit;
+            count += hit ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /// Calcula a área de interseção de todos os retângulos com a consulta, como [Rectangle#areaOfIntersection].
+    ///
+    /// @param query O retângulo de consulta.
+    /// @param areas Recebe em 'areas[i]' a área de interseção do retângulo 'i' com a consulta ('0' se não houver).
+    public void areaOfIntersection(Rectangle query, int[] areas) {
+        checkOutput(areas.length);
+
+        int qx1 = query.getX1(), qy1 = query.getY1(), qx2 = query.getX2(), qy2 = query.getY2();
+        int[] x1 = this.x1, y1 = this.y1, x2 = this.x2, y2 = this.y2;
+
+        for (int i = 0; i < size; i++) {
+            int left = max(x1[i], qx1), right = min(x2[i], qx2);
+            int bottom = max(y1[i], qy1), top = min(y2[i], qy2);
+            int area = (right - left + 1) * (top - bottom + 1);
+
+            areas[i] = left <= right & bottom <= top ? area : 0;
+        }
+    }
+
+    /// Soma, em 'long', as áreas de interseção de todos os retângulos com a consulta.
+    ///
+    /// @param query O retângulo de consulta.
+    /// @return A soma das áreas de interseção, calculada em 'long'.
+    public long sumOfAreasOfIntersection(Rectangle query) {
+        int qx1 = query.getX1(), qy1 = query.getY1(), qx2 = query.getX2(), qy2 = query.getY2();
+        int[] x1 = this.x1, y1 = this.y1, x2 = this.x2, y2 = this.y2;
+        long sum = 0;
+
+        for (int i = 0; i < size; i++) {
+            long width = (long) min(x2[i], qx2) - max(x1[i], qx1) + 1;
+            long height = (long) min(y2[i], qy2) - max(y1[i], qy1) + 1;
+
+            sum += width > 0 & height > 0 ? width * height : 0;
+        }
+
+        return sum;
+    }
+
+    /// Verifica quais pontos estão dentro do retângulo 'index', como [Rectangle#isPointInside(int, int)].
+    ///
+    /// @param index  O índice do retângulo.
+    /// @param xs     As coordenadas x dos pontos.
+    /// @param ys     As coordenadas y dos pontos.
+    /// @param count  A quantidade de pontos.
+    /// @param inside Recebe em 'inside[j]' se o ponto 'j' está dentro do retângulo (inclusive na borda).
+    /// @return A quantidade de pontos dentro do retângulo.
+    public int isPointInside(int index, int[] xs, int[] ys, int count, boolean[] inside) {
+        checkIndex(index);
+        if (count < 0 || count > xs.length || count > ys.length || count > inside.length)
+            throw new IndexOutOfBoundsException("Quantidade de pontos inválida: " + count);
+
+        int rx1 = x1[index], ry1 = y1[index], rx2 = x2[index], ry2 = y2[index];
+        int hits = 0;
+
+        for (int j = 0; j < count; j++) {
+            int x = xs[j], y = ys[j];
+            boolean hit = x >= rx1 & x <= rx2 & y >= ry1 & y <= ry2;
+            inside[j] = hit;
+            hits += hit ? 1 : 0;
+        }
+
+        return hits;
+    }
+
+    /// Verifica quais retângulos contêm o ponto, como [Rectangle#isPointInside(int, int)].
+    ///
+    /// @param x          Coordenada x do ponto.
+    /// @param y          Coordenada y do ponto.
+    /// @param containing Recebe em 'containing[i]' se o retângulo 'i' contém o ponto (inclusive na borda).
+    /// @return A quantidade de retângulos que contêm o ponto.
+    public int containing(int x, int y, boolean[] containing) {
+        checkOutput(containing.length);
+
+        int[] x1 = this.x1, y1 = this.y1, x2 = this.x2, y2 = this.y2;
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            boolean hit = x >= x1[i] & x <= x2[i] & y >= y1[i] & y <= y2[i];
+            containing[i] = hit;
+            count += hit ? 1 : 0;
+        }
+
+        return count;
+    }
+
+    /// Conta os retângulos que contêm o ponto, sem gravar resultados individuais.
+    ///
+    /// @param x Coordenada x do ponto.
+    /// @param y Coordenada y do ponto.
+    /// @return A quantidade de retângulos que contêm o ponto (inclusive na borda).
+    public int countContaining(int x, int y) {
+        int[] x1 = this.x1, y1 = this.y1, x2 = this.x2, y2 = this.y2;
+        int count = 0;
+
+        for (int i = 0; i < size; i++)
+            count += x >= x1[i] & x <= x2[i] & y >= y1[i] & y <= y2[i] ? 1 : 0;
+
+        return count;
+    }
+
+    private void grow() {
+        int capacity = max(16, x1.length + (x1.length >> 1));
+
+        x1 = Arrays.copyOf(x1, capacity);
+        y1 = Arrays.copyOf(y1, capacity);
+        x2 = Arrays.copyOf(x2, capacity);
+        y2 = Arrays.copyOf(y2, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Índice " + index + " fora do lote de tamanho " + size);
+    }
+
+    private void checkOutput(int length) {
+        if (length < size)
+            throw new IllegalArgumentException("Array de resultados menor que o lote: " + length + " < " + size);
+    }
+}
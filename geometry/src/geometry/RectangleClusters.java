@@ -0,0 +1,339 @@
+package geometry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/// Agrupamento de retângulos em componentes conexas do grafo de interseção: dois retângulos ficam no mesmo grupo se
+/// houver uma cadeia de retângulos que se intersectam, dois a dois, ligando um ao outro (por exemplo, para fundir
+/// caixas de detecção sobrepostas).
+///
+/// Em vez de chamar [Rectangle#isIntersection(Rectangle, Rectangle)] para todos os pares e rodar uma união-busca à
+/// parte, os candidatos vêm de uma grade hierárquica e são unidos, à medida que são confirmados, em uma união-busca
+/// sem travas sobre um [AtomicIntegerArray]:
+///
+/// - cada retângulo fica no nível 'k' em que o seu maior lado cabe em '2^k', e é registrado nas no máximo quatro
+///   células de lado '2^k' que toca. As células de todos os níveis são espalhadas por hash em um único array de
+///   baldes, ordenado por contagem em O(n);
+/// - cada retângulo procura candidatos no seu nível e nos níveis acima, onde também toca no máximo quatro células.
+///   Todo par que se intersecta é encontrado pelo retângulo de menor nível, na célula que contém o canto inferior
+///   esquerdo da interseção, e a procura é feita em paralelo;
+/// - a busca da união-busca faz divisão de caminho com 'compareAndSet', e a união liga sempre a raiz de maior índice
+///   à de menor índice, por 'compareAndSet' na raiz, de modo que não se formam ciclos e nenhuma thread bloqueia.
+///   Se os candidatos já estão no mesmo grupo, a união termina após as buscas, sem 'compareAndSet'.
+///
+/// Diferente da varredura de [IntersectionJoin], que relata todos os pares, aqui só a conectividade importa, e os
+/// acessos ficam concentrados em poucas células, sem percorrer uma árvore com todos os retângulos. Para entradas com
+/// muitos retângulos empilhados na mesma célula, o custo cresce com o quadrado da pilha.
+///
+/// Os rótulos são numerados de '0' a 'count() - 1' na ordem do menor índice de cada grupo, e cada grupo tem o seu
+/// retângulo envolvente. Como em [Rectangle], as bordas são inclusivas: retângulos que apenas se tocam ficam juntos.
+public final class RectangleClusters {
+
+    private final int[] labels;
+    private final int[] sizes;
+    private final int[] x1, y1, x2, y2;
+
+    private RectangleClusters(int[] labels, int count) {
+        this.labels = labels;
+        this.sizes = new int[count];
+        this.x1 = new int[count];
+        this.y1 = new int[count];
+        this.x2 = new int[count];
+        this.y2 = new int[count];
+    }
+
+    /// Agrupa os retângulos, dividindo o trabalho entre os núcleos disponíveis.
+    ///
+    /// @param rectangles Os retângulos; os rótulos são indexados pelas posições nesta lista.
+    /// @return Os grupos.
+    public static RectangleClusters of(List<? extends Rectangle> rectangles) {
+        Grid grid = new Grid(rectangles);
+        int n = grid.n;
+
+        AtomicIntegerArray parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) parent.set(i, i);
+
+        IntStream.range(0, grid.buckets()).parallel().forEach(b -> grid.sameLevel(b, parent));
+        if (grid.upperLevels != 0) IntStream.range(0, n).parallel().forEach(i -> grid.upperLevels(i, parent));
+
+        // Rótulos na ordem do menor índice de cada grupo, que é a própria raiz. Como cada nó aponta para um índice
+        // menor, o pai já tem o rótulo da raiz quando o nó é visitado, dispensando a busca.
+        int[] labels = new int[n];
+        int count = 0;
+
+        for (int i = 0; i < n; i++) {
+            int p = parent.get(i);
+            labels[i] = p == i ? count++ : labels[p];
+        }
+
+        RectangleClusters clusters = new RectangleClusters(labels, count);
+        Arrays.fill(clusters.x1, Integer.MAX_VALUE);
+        Arrays.fill(clusters.y1, Integer.MAX_VALUE);
+        Arrays.fill(clusters.x2, Integer.MIN_VALUE);
+        Arrays.fill(clusters.y2, Integer.MIN_VALUE);
+
+        for (int i = 0; i < n; i++) {
+            int c = labels[i];
+
+            clusters.sizes[c]++;
+            clusters.x1[c] = Math.min(clusters.x1[c], grid.x1[i]);
+            clusters.y1[c] = Math.min(clusters.y1[c], grid.y1[i]);
+            clusters.x2[c] = Math.max(clusters.x2[c], grid.x2[i]);
+            clusters.y2[c] = Math.max(clusters.y2[c], grid.y2[i]);
+        }
+
+        return clusters;
+    }
+
+    /// Retorna a quantidade de grupos.
+    ///
+    /// @return A quantidade de grupos.
+    public int count() {
+        return sizes.length;
+    }
+
+    /// Retorna o rótulo do grupo de um retângulo.
+    ///
+    /// @param index A posição do retângulo na lista de entrada.
+    /// @return O rótulo, entre '0' e 'count() - 1'.
+    public int labelOf(int index) {
+        return labels[index];
+    }
+
+    /// Retorna uma cópia dos rótulos de todos os retângulos.
+    ///
+    /// @return Um array em que a posição 'i' guarda o rótulo do retângulo 'i'.
+    public int[] labels() {
+        return labels.clone();
+    }
+
+    /// Retorna a quantidade de retângulos de um grupo.
+    ///
+    /// @param cluster O rótulo do grupo.
+    /// @return A quantidade de retângulos.
+    public int sizeOf(int cluster) {
+        return sizes[cluster];
+    }
+
+    /// Retorna o menor retângulo que contém todos os retângulos de um grupo.
+    ///
+    /// @param cluster O rótulo do grupo.
+    /// @return Um novo 'Rectangle' envolvente.
+    public Rectangle getBounds(int cluster) {
+        return new Rectangle(x1[cluster], y1[cluster], x2[cluster], y2[cluster]);
+    }
+
+    /// Grade hierárquica: as coordenadas dos retângulos, o nível de cada um e os baldes das células.
+    private static final class Grid {
+
+        /// Fração dos retângulos que deve caber no nível base.
+        private static final double BASE_FRACTION = 0.95;
+
+        final int n;
+        final int[] x1, y1, x2, y2;
+        final byte[] level;
+
+        /// Níveis acima do nível base com ao menos um retângulo (bit 'k' = nível 'k').
+        final long upperLevels;
+
+        /// Campos de uma entrada em 'entries': chave da célula (duas metades), retângulo e coordenadas.
+        private static final int KEY_HIGH = 0, KEY_LOW = 1, MEMBER = 2, X1 = 3, Y1 = 4, X2 = 5, Y2 = 6, STRIDE = 8;
+
+        /// Baldes: o balde 'b' ocupa as entradas '[start[b], start[b + 1])'. Cada entrada guarda a chave da célula,
+        /// o retângulo e uma cópia das suas coordenadas, intercaladas em 'STRIDE' inteiros, para que a entrada caiba
+        /// em uma única linha de cache e os pares de um balde sejam lidos em sequência.
+        final int[] start;
+        final int[] entries;
+        final int mask;
+
+        Grid(List<? extends Rectangle> rectangles) {
+            n = rectangles.size();
+            x1 = new int[n];
+            y1 = new int[n];
+            x2 = new int[n];
+            y2 = new int[n];
+            level = new byte[n];
+
+            int[] histogram = new int[33];
+            int i = 0;
+
+            for (Rectangle r : rectangles) {
+                x1[i] = r.getX1();
+                y1[i] = r.getY1();
+                x2[i] = r.getX2();
+                y2[i] = r.getY2();
+
+                // Menor 'k' com o maior lado (em células) até '2^k': o retângulo toca no máximo duas células por eixo.
+                long side = Math.max((long) x2[i] - x1[i], (long) y2[i] - y1[i]) + 1;
+                histogram[level[i] = (byte) (64 - Long.numberOfLeadingZeros(side - 1))]++;
+                i++;
+            }
+
+            // Nível base: o menor que acomoda a maior parte dos retângulos; os menores sobem para ele.
+            int base = 0;
+            for (long covered = histogram[0]; covered < BASE_FRACTION * n && base < 32; covered += histogram[++base]) ;
+
+            long upper = 0;
+            for (int r = 0; r < n; r++) {
+                if (level[r] < base) level[r] = (byte) base;
+                else if (level[r] > base) upper |= 1L << level[r];
+            }
+            upperLevels = upper;
+
+            int buckets = Integer.highestOneBit(Math.max(16, n - 1)) << 1;
+            mask = buckets - 1;
+
+            // Ordenação por contagem das entradas (retângulo, célula) pelo balde da célula.
+            start = new int[buckets + 1];
+            for (int r = 0; r < n; r++) forEachCell(r, level[r], (key, b) -> start[b + 1]++);
+            for (int b = 0; b < buckets; b++) start[b + 1] += start[b];
+
+            entries = new int[Math.multiplyExact(start[buckets], STRIDE)];
+
+            int[] cursor = Arrays.copyOf(start, buckets);
+            for (int r = 0; r < n; r++) {
+                int id = r;
+                forEachCell(r, level[r], (key, b) -> {
+                    int e = cursor[b]++ * STRIDE;
+                    entries[e + KEY_HIGH] = (int) (key >>> 32);
+                    entries[e + KEY_LOW] = (int) key;
+                    entries[e + MEMBER] = id;
+                    entries[e + X1] = x1[id];
+                    entries[e + Y1] = y1[id];
+                    entries[e + X2] = x2[id];
+                    entries[e + Y2] = y2[id];
+                });
+            }
+        }
+
+        /// Quantidade de baldes.
+        int buckets() {
+            return mask + 1;
+        }
+
+        /// Une os pares de retângulos do mesmo nível que se intersectam dentro do balde 'b'.
+        void sameLevel(int b, AtomicIntegerArray parent) {
+            int[] e = entries;
+
+            for (int p = start[b] * STRIDE, end = start[b + 1] * STRIDE; p < end; p += STRIDE) {
+                long key = keyAt(p);
+                int k = (int) (key >>> 58);
+
+                for (int q = p + STRIDE; q < end; q += STRIDE) {
+                    if (e[q + KEY_HIGH] != e[p + KEY_HIGH] || e[q + KEY_LOW] != e[p + KEY_LOW]) continue;
+                    if (e[p + X2] < e[q + X1] || e[q + X2] < e[p + X1] || e[p + Y2] < e[q + Y1] || e[q + Y2] < e[p + Y1]) continue;
+
+                    // Cada par é confirmado só na célula do canto inferior esquerdo da interseção.
+                    long corner = key(k, cell(Math.max(e[p + X1], e[q + X1]), k), cell(Math.max(e[p + Y1], e[q + Y1]), k));
+                    if (corner != key) continue;
+
+                    union(parent, e[p + MEMBER], e[q + MEMBER]);
+                }
+            }
+        }
+
+        /// Une o retângulo 'i' aos retângulos de níveis acima do seu que o intersectam.
+        void upperLevels(int i, AtomicIntegerArray parent) {
+            int own = level[i];
+
+            for (long pending = upperLevels >>> own >>> 1 << own << 1; pending != 0; pending &= pending - 1) {
+                int k = Long.numberOfTrailingZeros(pending);
+
+                long cx1 = cell(x1[i], k), cx2 = cell(x2[i], k), cy1 = cell(y1[i], k), cy2 = cell(y2[i], k);
+
+                for (long cx = cx1; cx <= cx2; cx++) {
+                    for (long cy = cy1; cy <= cy2; cy++) {
+                        long key = key(k, cx, cy);
+                        int b = bucket(key);
+
+                        int[] e = entries;
+
+                        for (int q = start[b] * STRIDE, end = start[b + 1] * STRIDE; q < end; q += STRIDE) {
+                            if (keyAt(q) != key) continue;
+                            if (x2[i] < e[q + X1] || e[q + X2] < x1[i] || y2[i] < e[q + Y1] || e[q + Y2] < y1[i]) continue;
+                            if (cell(Math.max(x1[i], e[q + X1]), k) != cx || cell(Math.max(y1[i], e[q + Y1]), k) != cy) continue;
+
+                            union(parent, i, e[q + MEMBER]);
+                        }
+                    }
+                }
+            }
+        }
+
+        /// Aplica a ação à chave e ao balde de cada célula do nível 'k' tocada pelo retângulo 'r'.
+        private void forEachCell(int r, int k, CellAction action) {
+            long cx1 = cell(x1[r], k), cx2 = cell(x2[r], k), cy1 = cell(y1[r], k), cy2 = cell(y2[r], k);
+
+            for (long cx = cx1; cx <= cx2; cx++) {
+                for (long cy = cy1; cy <= cy2; cy++) {
+                    long key = key(k, cx, cy);
+                    action.accept(key, bucket(key));
+                }
+            }
+        }
+
+        /// Chave da célula da entrada que começa em 'e'.
+        private long keyAt(int e) {
+            return (long) entries[e + KEY_HIGH] << 32 | (entries[e + KEY_LOW] & 0xFFFFFFFFL);
+        }
+
+        @FunctionalInterface
+        private interface CellAction {
+            void accept(long key, int bucket);
+        }
+
+        /// Célula de lado '2^k' que contém a coordenada, contada a partir de 'Integer.MIN_VALUE'.
+        private static long cell(int coordinate, int k) {
+            return Integer.toUnsignedLong(coordinate ^ Integer.MIN_VALUE) >>> k;
+        }
+
+        /// Chave da célula '(cx, cy)' do nível 'k': o nível nos 6 bits altos e '29' bits por eixo. Nos níveis '0' a
+        /// '3', em que as células não cabem em 29 bits, as chaves de células distantes podem coincidir; isso só gera
+        /// candidatos a mais, descartados pelo teste de interseção.
+        private static long key(int k, long cx, long cy) {
+            return (long) k << 58 | (cx & 0x1FFFFFFFL) << 29 | (cy & 0x1FFFFFFFL);
+        }
+
+        /// Balde da chave (finalizador do MurmurHash3).
+        private int bucket(long key) {
+            key ^= key >>> 33;
+            key *= 0xFF51AFD7ED558CCDL;
+            key ^= key >>> 33;
+            key *= 0xC4CEB9FE1A85EC53L;
+            return (int) (key ^ (key >>> 33)) & mask;
+        }
+    }
+
+    /// Une os grupos de 'a' e 'b', ligando a raiz de maior índice à de menor índice.
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            a = find(parent, a);
+            b = find(parent, b);
+            if (a == b) return;
+
+            if (a < b) {
+                int swap = a;
+                a = b;
+                b = swap;
+            }
+
+            // Falha se 'a' deixou de ser raiz entre a busca e a ligação; nesse caso, tenta de novo.
+            if (parent.compareAndSet(a, a, b)) return;
+        }
+    }
+
+    /// Raiz do grupo de 'x', com divisão de caminho: cada nó visitado passa a apontar para o avô.
+    private static int find(AtomicIntegerArray parent, int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) return x;
+
+            int grandparent = parent.get(p);
+            if (p != grandparent) parent.compareAndSet(x, p, grandparent);
+
+            x = p;
+        }
+    }
+}
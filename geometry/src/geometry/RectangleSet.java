@@ -0,0 +1,250 @@
+package geometry;
+
+import java.util.Arrays;
+
+/// Conjunto de retângulos com endereçamento aberto sobre um único 'long[]', para deduplicar dezenas de milhões de
+/// retângulos.
+///
+/// Cada retângulo é armazenado como a sua chave de 128 bits (ver [ImmutableRectangle#low()] e
+/// [ImmutableRectangle#high()]) em duas posições consecutivas da tabela: 16 bytes por posição, sem objetos por
+/// elemento e com a chave inteira em uma mesma linha de cache. Um 'HashSet<Rectangle>' gasta dezenas de bytes por
+/// elemento e, com o [Rectangle#hashCode()] atual, degrada para listas longas em cada balde.
+///
+/// As colisões são resolvidas por sondagem linear sobre o hash de [ImmutableRectangle] e a remoção usa deslocamento
+/// para trás, dispensando marcadores de remoção. A tabela dobra de tamanho quando a ocupação ultrapassa 3/4.
+///
+/// Esta classe não é segura para uso concorrente.
+public final class RectangleSet {
+
+    /// Valor de uma metade de posição vazia. A metade superior é armazenada com o bit de sinal invertido, de modo que
+    /// a posição '(0, 0)' corresponderia a 'x1 = 0' e 'x2 = Integer.MIN_VALUE', que não forma um retângulo válido.
+    private static final long EMPTY = 0;
+
+    /// Quantidade máxima de posições da tabela.
+    private static final int MAX_SLOTS = 1 << 29;
+
+    /// Recebe as coordenadas de cada retângulo do conjunto.
+    @FunctionalInterface
+    public interface RectangleConsumer {
+
+        void accept(int x1, int y1, int x2, int y2);
+    }
+
+    private long[] table;
+    private int mask;
+    private int size;
+    private int threshold;
+
+    /// Cria um conjunto vazio com capacidade inicial padrão.
+    public RectangleSet() {
+        this(16);
+    }
+
+    /// Cria um conjunto vazio capaz de receber a quantidade informada de retângulos sem redimensionar.
+    ///
+    /// @param capacity A quantidade esperada de retângulos.
+    /// @throws IllegalArgumentException Se a capacidade for negativa ou grande demais.
+    public RectangleSet(int capacity) {
+        if (capacity < 0 || capacity > MAX_SLOTS / 4 * 3)
+            throw new IllegalArgumentException("Capacidade inválida: " + capacity);
+
+        allocate(slotsFor(capacity));
+    }
+
+    /// Adiciona um retângulo ao conjunto.
+    ///
+    /// @param x1 Coordenada x do canto inferior esquerdo.
+    /// @param y1 Coordenada y do canto inferior esquerdo.
+    /// @param x2 Coordenada x do canto superior direito.
+    /// @param y2 Coordenada y do canto superior direito.
+    /// @return 'true' se o retângulo não estava no conjunto; caso contrário, 'false'.
+    /// @throws IllegalArgumentException Se as coordenadas não formarem um retângulo válido.
+    public boolean add(int x1, int y1, int x2, int y2) {
+        if (x1 > x2 || y1 > y2) throw new IllegalArgumentException("Coordenadas inválidas para formar um retângulo.");
+
+        long low = ImmutableRectangle.pack(x1, y1), high = ImmutableRectangle.pack(x2, y2);
+        long stored = high ^ Long.MIN_VALUE;
+
+        for (int slot = slot(low, high, mask); ; slot = (slot + 1) & mask) {
+            int i = slot << 1;
+
+            if (table[i] == low && table[i + 1] == stored) return false;
+            if (table[i] == EMPTY && table[i + 1] == EMPTY) {
+                table[i] = low;
+                table[i + 1] = stored;
+                if (++size > threshold) resize();
+                return true;
+            }
+        }
+    }
+
+    /// Adiciona um retângulo ao conjunto.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'true' se o retângulo não estava no conjunto; caso contrário, 'false'.
+    public boolean add(Rectangle rectangle) {
+        return add(rectangle.getX1(), rectangle.getY1(), rectangle.getX2(), rectangle.getY2());
+    }
+
+    /// Adiciona um retângulo ao conjunto.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'true' se o retângulo não estava no conjunto; caso contrário, 'false'.
+    public boolean add(ImmutableRectangle rectangle) {
+        return add(rectangle.x1(), rectangle.y1(), rectangle.x2(), rectangle.y2());
+    }
+
+    /// Verifica se o retângulo está no conjunto.
+    ///
+    /// @param x1 Coordenada x do canto inferior esquerdo.
+    /// @param y1 Coordenada y do canto inferior esquerdo.
+    /// @param x2 Coordenada x do canto superior direito.
+    /// @param y2 Coordenada y do canto superior direito.
+    /// @return 'true' se o retângulo estiver no conjunto; caso contrário, 'false'.
+    public boolean contains(int x1, int y1, int x2, int y2) {
+        return find(ImmutableRectangle.pack(x1, y1), ImmutableRectangle.pack(x2, y2)) >= 0;
+    }
+
+    /// Verifica se o retângulo está no conjunto.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'true' se o retângulo estiver no conjunto; caso contrário, 'false'.
+    public boolean contains(Rectangle rectangle) {
+        return contains(rectangle.getX1(), rectangle.getY1(), rectangle.getX2(), rectangle.getY2());
+    }
+
+    /// Verifica se o retângulo está no conjunto.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'true' se o retângulo estiver no conjunto; caso contrário, 'false'.
+    public boolean contains(ImmutableRectangle rectangle) {
+        return contains(rectangle.x1(), rectangle.y1(), rectangle.x2(), rectangle.y2());
+    }
+
+    /// Remove um retângulo do conjunto.
+    ///
+    /// @param x1 Coordenada x do canto inferior esquerdo.
+    /// @param y1 Coordenada y do canto inferior esquerdo.
+    /// @param x2 Coordenada x do canto superior direito.
+    /// @param y2 Coordenada y do canto superior direito.
+    /// @return 'true' se o retângulo estava no conjunto; caso contrário, 'false'.
+    public boolean remove(int x1, int y1, int x2, int y2) {
+        int slot = find(ImmutableRectangle.pack(x1, y1), ImmutableRectangle.pack(x2, y2));
+        if (slot < 0) return false;
+
+        shiftBack(slot);
+        size--;
+        return true;
+    }
+
+    /// Remove um retângulo do conjunto.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'true' se o retângulo estava no conjunto; caso contrário, 'false'.
+    public boolean remove(ImmutableRectangle rectangle) {
+        return remove(rectangle.x1(), rectangle.y1(), rectangle.x2(), rectangle.y2());
+    }
+
+    /// Retorna a quantidade de retângulos no conjunto.
+    ///
+    /// @return O tamanho do conjunto.
+    public int size() {
+        return size;
+    }
+
+    /// Verifica se o conjunto está vazio.
+    ///
+    /// @return 'true' se o conjunto não tiver elementos.
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /// Remove todos os retângulos, mantendo a capacidade atual.
+    public void clear() {
+        Arrays.fill(table, EMPTY);
+        size = 0;
+    }
+
+    /// Executa a ação para cada retângulo do conjunto, em ordem não especificada.
+    ///
+    /// @param action A ação que recebe as coordenadas de cada retângulo.
+    public void forEach(RectangleConsumer action) {
+        for (int i = 0; i < table.length; i += 2) {
+            if (isEmpty(i)) continue;
+
+            long low = table[i], high = table[i + 1] ^ Long.MIN_VALUE;
+            action.accept((int) (low >> 32), (int) low, (int) (high >> 32), (int) high);
+        }
+    }
+
+    /// Posição do retângulo na tabela, ou '-1' se ele não estiver no conjunto.
+    private int find(long low, long high) {
+        long stored = high ^ Long.MIN_VALUE;
+
+        for (int slot = slot(low, high, mask); ; slot = (slot + 1) & mask) {
+            int i = slot << 1;
+
+            // A posição vazia é testada antes: a chave de '(0, 0, Integer.MIN_VALUE, 0)', que não é um retângulo
+            // válido, coincide com a de uma posição vazia.
+            if (isEmpty(i)) return -1;
+            if (table[i] == low && table[i + 1] == stored) return slot;
+        }
+    }
+
+    private boolean isEmpty(int i) {
+        return table[i] == EMPTY && table[i + 1] == EMPTY;
+    }
+
+    /// Fecha o buraco deixado na posição 'hole' movendo para trás os elementos do mesmo agrupamento que tenham sido
+    /// deslocados pela sondagem linear.
+    private void shiftBack(int hole) {
+        for (int slot = (hole + 1) & mask; !isEmpty(slot << 1); slot = (slot + 1) & mask) {
+            int i = slot << 1;
+            int ideal = slot(table[i], table[i + 1] ^ Long.MIN_VALUE, mask);
+
+            // Move o elemento se a sua posição ideal não estiver no intervalo cíclico (hole, slot].
+            if (((slot - ideal) & mask) >= ((slot - hole) & mask)) {
+                table[hole << 1] = table[i];
+                table[(hole << 1) + 1] = table[i + 1];
+                hole = slot;
+            }
+        }
+
+        table[hole << 1] = EMPTY;
+        table[(hole << 1) + 1] = EMPTY;
+    }
+
+    private void resize() {
+        if (table.length == 2 * MAX_SLOTS) throw new IllegalStateException("Capacidade máxima do conjunto atingida.");
+
+        long[] old = table;
+        allocate(old.length);
+
+        for (int i = 0; i < old.length; i += 2) {
+            if (old[i] == EMPTY && old[i + 1] == EMPTY) continue;
+
+            int slot = slot(old[i], old[i + 1] ^ Long.MIN_VALUE, mask);
+            while (!isEmpty(slot << 1)) slot = (slot + 1) & mask;
+
+            table[slot << 1] = old[i];
+            table[(slot << 1) + 1] = old[i + 1];
+        }
+    }
+
+    private void allocate(int slots) {
+        table = new long[2 * slots];
+        mask = slots - 1;
+        threshold = slots / 4 * 3;
+    }
+
+    /// Quantidade de posições (potência de dois) para a capacidade informada com ocupação máxima de 3/4.
+    private static int slotsFor(int capacity) {
+        long minimum = Math.max(16, ((long) capacity * 4 + 2) / 3);
+        return (int) (Long.highestOneBit(minimum - 1) << 1);
+    }
+
+    /// Posição ideal da chave na tabela.
+    private static int slot(long low, long high, int mask) {
+        return (int) ImmutableRectangle.hash(low, high) & mask;
+    }
+}
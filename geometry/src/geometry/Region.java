@@ -0,0 +1,484 @@
+package geometry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/// Região do plano formada por células inteiras, com operações booleanas entre regiões inteiras.
+///
+/// [Rectangle#calculateIntersection] trata apenas um par e devolve 'null' quando não há interseção; aqui a união, a
+/// interseção e a diferença de regiões devolvem sempre outra região, possivelmente [#EMPTY]. Usa a mesma semântica
+/// discreta de [Rectangle]: o retângulo '(x1, y1; x2, y2)' cobre as células '[x1, x2] × [y1, y2]', bordas incluídas.
+///
+/// A região é uma quadtree linear: cada célula '(x, y)' recebe o código de Morton que intercala os bits de 'x' e 'y'
+/// (deslocados para sem sinal), e todo bloco quadrado alinhado de lado '2^k' ocupa um intervalo contíguo de '4^k'
+/// códigos. A região guarda apenas os intervalos maximais de códigos, em ordem; como a decomposição de um intervalo
+/// em blocos alinhados é única, isso equivale a um conjunto canônico de retângulos disjuntos (ver [#blocks()]), e
+/// duas regiões com as mesmas células são iguais por [#equals].
+///
+/// As operações entre regiões percorrem os dois vetores de intervalos ao mesmo tempo e saltam, por busca exponencial,
+/// os trechos que não interagem com o outro lado: o custo é proporcional à saída e às alternâncias entre os lados, com
+/// um fator logarítmico, e não ao produto dos tamanhos. As consultas por ponto fazem uma busca binária; as consultas
+/// por retângulo descem a quadtree e param assim que um bloco é resolvido pelos intervalos.
+///
+/// Um retângulo vira O(largura + altura) intervalos no pior caso (faixas finas), de modo que a representação é
+/// compacta para regiões formadas por blocos largos e cara para faixas de uma célula ao longo de todo o plano.
+///
+/// As instâncias são imutáveis.
+public final class Region {
+
+    /// A região sem nenhuma célula.
+    public static final Region EMPTY = new Region(new long[0], 0);
+
+    /// Nível do bloco que cobre o plano inteiro: lado '2^32'.
+    private static final int TOP_LEVEL = 32;
+
+    private static final int LO = 0;
+    private static final int HI = 1;
+
+    /// Intervalos maximais de códigos, intercalados como '(lo, hi)' com ambos inclusivos. Os códigos são guardados com
+    /// o bit de sinal invertido, de modo que a ordem com sinal de 'long' coincide com a ordem de Morton.
+    private final long[] bounds;
+    private final int count;
+
+    private Region(long[] bounds, int count) {
+        this.bounds = bounds;
+        this.count = count;
+    }
+
+    /// Cria a região coberta por um retângulo.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return A região com as células do retângulo.
+    public static Region of(Rectangle rectangle) {
+        Builder out = new Builder(8);
+        decompose(0, 0, TOP_LEVEL,
+                unsigned(rectangle.getX1()), unsigned(rectangle.getY1()),
+                unsigned(rectangle.getX2()), unsigned(rectangle.getY2()), out);
+        return out.build();
+    }
+
+    /// Cria a região coberta pela união dos retângulos.
+    ///
+    /// As regiões de cada retângulo são unidas duas a duas, em árvore balanceada.
+    ///
+    /// @param rectangles Os retângulos.
+    /// @return A região com as células de ao menos um dos retângulos.
+    public static Region of(Collection<? extends Rectangle> rectangles) {
+        Region[] regions = new Region[rectangles.size()];
+        int n = 0;
+        for (Rectangle rectangle : rectangles) regions[n++] = of(rectangle);
+        if (n == 0) return EMPTY;
+
+        for (int step = 1; step < n; step <<= 1)
+            for (int i = 0; i + step < n; i += step << 1)
+                regions[i] = regions[i].union(regions[i + step]);
+        return regions[0];
+    }
+
+    /// Calcula a união desta região com outra.
+    ///
+    /// @param other A outra região.
+    /// @return A região com as células de ao menos uma das duas.
+    public Region union(Region other) {
+        if (other.count == 0) return this;
+        if (count == 0) return other;
+
+        long[] a = bounds, b = other.bounds;
+        int n = count, m = other.count, i = 0, j = 0;
+        Builder out = new Builder(n + m);
+
+        while (i < n && j < m) {
+            if (a[2 * i] <= b[2 * j]) {
+                int k = firstAbove(a, i, n, LO, b[2 * j]);
+                out.addAll(a, i, k);
+                i = k;
+            } else {
+                int k = firstAbove(b, j, m, LO, a[2 * i]);
+                out.addAll(b, j, k);
+                j = k;
+            }
+
+            // Intervalos engolidos pelo último intervalo emitido são saltados de uma vez.
+            long last = out.lastHi();
+            if (i < n && a[2 * i + HI] <= last) i = firstAbove(a, i, n, HI, last);
+            if (j < m && b[2 * j + HI] <= last) j = firstAbove(b, j, m, HI, last);
+        }
+        out.addAll(a, i, n);
+        out.addAll(b, j, m);
+        return out.build();
+    }
+
+    /// Calcula a interseção desta região com outra.
+    ///
+    /// @param other A outra região.
+    /// @return A região com as células comuns às duas, ou [#EMPTY] se não houver nenhuma.
+    public Region intersection(Region other) {
+        long[] a = bounds, b = other.bounds;
+        int n = count, m = other.count, i = 0, j = 0;
+        Builder out = new Builder(Math.min(n, m));
+
+        while (i < n && j < m) {
+            long aHi = a[2 * i + HI], bHi = b[2 * j + HI];
+            if (aHi < b[2 * j]) {
+                i = firstAbove(a, i + 1, n, HI, b[2 * j] - 1);
+            } else if (bHi < a[2 * i]) {
+                j = firstAbove(b, j + 1, m, HI, a[2 * i] - 1);
+            } else {
+                out.add(Math.max(a[2 * i], b[2 * j]), Math.min(aHi, bHi));
+                if (aHi <= bHi) i++;
+                if (bHi <= aHi) j++;
+            }
+        }
+        return out.build();
+    }
+
+    /// Calcula a diferença entre esta região e outra.
+    ///
+    /// @param other A região a remover.
+    /// @return A região com as células desta que não estão na outra.
+    public Region difference(Region other) {
+        if (count == 0 || other.count == 0) return this;
+
+        long[] a = bounds, b = other.bounds;
+        int n = count, m = other.count, i = 0, j = 0;
+        Builder out = new Builder(n + m);
+        long lo = a[0];
+
+        while (i < n) {
+            long hi = a[2 * i + HI];
+            if (j < m && b[2 * j + HI] < lo) {
+                j = firstAbove(b, j + 1, m, HI, lo - 1);
+            } else if (j == m || hi < b[2 * j]) {
+                // O restante do intervalo atual e os seguintes, até o próximo intervalo removido, ficam inteiros.
+                int k = j == m ? n : firstAbove(a, i + 1, n, HI, b[2 * j] - 1);
+                out.add(lo, hi);
+                out.addAll(a, i + 1, k);
+                i = k;
+                if (i < n) lo = a[2 * i];
+            } else {
+                long bLo = b[2 * j], bHi = b[2 * j + HI];
+                if (lo < bLo) out.add(lo, bLo - 1);
+                if (bHi >= hi) {
+                    if (++i < n) lo = a[2 * i];
+                } else {
+                    lo = bHi + 1;
+                    j++;
+                }
+            }
+        }
+        return out.build();
+    }
+
+    /// Verifica se a região não tem nenhuma célula.
+    ///
+    /// @return 'true' se a região é vazia; caso contrário, 'false'.
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /// Calcula a quantidade de células da região.
+    ///
+    /// @return A área da região.
+    /// @throws ArithmeticException Se a área não couber em um 'long'.
+    public long area() {
+        long area = 0;
+        for (int i = 0; i < count; i++) {
+            long length = bounds[2 * i + HI] - bounds[2 * i] + 1;
+            if (length <= 0) throw new ArithmeticException("long overflow");
+            area = Math.addExact(area, length);
+        }
+        return area;
+    }
+
+    /// Verifica se a célula '(x, y)' pertence à região.
+    ///
+    /// @param x Coordenada x da célula.
+    /// @param y Coordenada y da célula.
+    /// @return 'true' se a célula pertence à região; caso contrário, 'false'.
+    public boolean contains(int x, int y) {
+        long code = code(unsigned(x), unsigned(y));
+        int i = firstAbove(bounds, 0, count, LO, code) - 1;
+        return i >= 0 && bounds[2 * i + HI] >= code;
+    }
+
+    /// Verifica se todas as células do retângulo pertencem à região.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'true' se o retângulo está contido na região; caso contrário, 'false'.
+    public boolean contains(Rectangle rectangle) {
+        return covers(0, 0, TOP_LEVEL,
+                unsigned(rectangle.getX1()), unsigned(rectangle.getY1()),
+                unsigned(rectangle.getX2()), unsigned(rectangle.getY2()));
+    }
+
+    /// Verifica se alguma célula do retângulo pertence à região.
+    ///
+    /// @param rectangle O retângulo.
+    /// @return 'true' se o retângulo e a região têm alguma célula em comum; caso contrário, 'false'.
+    public boolean intersects(Rectangle rectangle) {
+        return meets(0, 0, TOP_LEVEL,
+                unsigned(rectangle.getX1()), unsigned(rectangle.getY1()),
+                unsigned(rectangle.getX2()), unsigned(rectangle.getY2()));
+    }
+
+    /// Verifica se todas as células de outra região pertencem a esta.
+    ///
+    /// Como os intervalos são maximais, cada intervalo da outra região precisa caber inteiro em um único intervalo
+    /// desta.
+    ///
+    /// @param other A outra região.
+    /// @return 'true' se a outra região está contida nesta; caso contrário, 'false'.
+    public boolean contains(Region other) {
+        long[] a = bounds, b = other.bounds;
+        int n = count, i = 0;
+
+        for (int j = 0; j < other.count; j++) {
+            long lo = b[2 * j], hi = b[2 * j + HI];
+            if (i < n && a[2 * i + HI] < lo) i = firstAbove(a, i + 1, n, HI, lo - 1);
+            if (i == n || a[2 * i] > lo || a[2 * i + HI] < hi) return false;
+        }
+        return true;
+    }
+
+    /// Verifica se esta região e outra têm alguma célula em comum.
+    ///
+    /// @param other A outra região.
+    /// @return 'true' se as regiões se intersectam; caso contrário, 'false'.
+    public boolean intersects(Region other) {
+        long[] a = bounds, b = other.bounds;
+        int n = count, m = other.count, i = 0, j = 0;
+
+        while (i < n && j < m) {
+            if (a[2 * i + HI] < b[2 * j]) i = firstAbove(a, i + 1, n, HI, b[2 * j] - 1);
+            else if (b[2 * j + HI] < a[2 * i]) j = firstAbove(b, j + 1, m, HI, a[2 * i] - 1);
+            else return true;
+        }
+        return false;
+    }
+
+    /// Retorna o conjunto canônico de retângulos disjuntos da região: os blocos quadrados alinhados da quadtree, em
+    /// ordem de Morton.
+    ///
+    /// @return Uma nova lista com os blocos da região.
+    public List<Rectangle> blocks() {
+        List<Rectangle> blocks = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            long code = bounds[2 * i] ^ Long.MIN_VALUE, last = bounds[2 * i + HI] ^ Long.MIN_VALUE;
+            while (true) {
+                int k = Math.min(Long.numberOfTrailingZeros(code) >>> 1, TOP_LEVEL);
+                while (Long.compareUnsigned(code + span(k), last) > 0) k--;
+
+                long x = compact(code), y = compact(code >>> 1), side = (1L << k) - 1;
+                blocks.add(new Rectangle(signed(x), signed(y), signed(x + side), signed(y + side)));
+
+                long end = code + span(k);
+                if (end == last) break;
+                code = end + 1;
+            }
+        }
+        return blocks;
+    }
+
+    /// Compara esta região com outro objeto.
+    ///
+    /// Como a representação é canônica, duas regiões são iguais exatamente quando têm as mesmas células.
+    ///
+    /// @param o O objeto a ser comparado.
+    /// @return 'true' se as regiões têm as mesmas células; caso contrário, 'false'.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Region that)) return false;
+
+        return Arrays.equals(bounds, 0, 2 * count, that.bounds, 0, 2 * that.count);
+    }
+
+    /// Calcula o código hash a partir dos intervalos da região.
+    ///
+    /// @return O código hash da região.
+    @Override
+    public int hashCode() {
+        long hash = 0;
+        for (int i = 0; i < 2 * count; i += 2) hash = ImmutableRectangle.hash(hash ^ bounds[i], bounds[i + 1]);
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /// Retorna uma representação em 'String' desta região.
+    ///
+    /// @return Uma 'String' com a quantidade de intervalos de códigos da região.
+    @Override
+    public String toString() {
+        return "Regiao [" + count + " intervalos]";
+    }
+
+    /// Emite, em ordem de Morton, os blocos do bloco '(bx, by)' de nível 'k' contidos no retângulo.
+    private static void decompose(long bx, long by, int k, long x1, long y1, long x2, long y2, Builder out) {
+        long ex = bx + (1L << k) - 1, ey = by + (1L << k) - 1;
+        if (ex < x1 || bx > x2 || ey < y1 || by > y2) return;
+
+        if (bx >= x1 && ex <= x2 && by >= y1 && ey <= y2) {
+            long code = code(bx, by);
+            out.add(code, code + span(k));
+            return;
+        }
+
+        long half = 1L << (k - 1);
+        decompose(bx, by, k - 1, x1, y1, x2, y2, out);
+        decompose(bx + half, by, k - 1, x1, y1, x2, y2, out);
+        decompose(bx, by + half, k - 1, x1, y1, x2, y2, out);
+        decompose(bx + half, by + half, k - 1, x1, y1, x2, y2, out);
+    }
+
+    /// Verifica se todas as células do retângulo dentro do bloco '(bx, by)' de nível 'k' pertencem à região.
+    private boolean covers(long bx, long by, int k, long x1, long y1, long x2, long y2) {
+        long ex = bx + (1L << k) - 1, ey = by + (1L << k) - 1;
+        if (ex < x1 || bx > x2 || ey < y1 || by > y2) return true;
+
+        long code = code(bx, by), end = code + span(k);
+        int i = locate(code);
+        if (i == count || bounds[2 * i] > end) return false;
+        if (bounds[2 * i] <= code && bounds[2 * i + HI] >= end) return true;
+        if (bx >= x1 && ex <= x2 && by >= y1 && ey <= y2) return false;
+
+        long half = 1L << (k - 1);
+        return covers(bx, by, k - 1, x1, y1, x2, y2)
+               && covers(bx + half, by, k - 1, x1, y1, x2, y2)
+               && covers(bx, by + half, k - 1, x1, y1, x2, y2)
+               && covers(bx + half, by + half, k - 1, x1, y1, x2, y2);
+    }
+
+    /// Verifica se alguma célula do retângulo dentro do bloco '(bx, by)' de nível 'k' pertence à região.
+    private boolean meets(long bx, long by, int k, long x1, long y1, long x2, long y2) {
+        long ex = bx + (1L << k) - 1, ey = by + (1L << k) - 1;
+        if (ex < x1 || bx > x2 || ey < y1 || by > y2) return false;
+
+        long code = code(bx, by), end = code + span(k);
+        int i = locate(code);
+        if (i == count || bounds[2 * i] > end) return false;
+        if (bounds[2 * i] <= code && bounds[2 * i + HI] >= end) return true;
+        if (bx >= x1 && ex <= x2 && by >= y1 && ey <= y2) return true;
+
+        long half = 1L << (k - 1);
+        return meets(bx, by, k - 1, x1, y1, x2, y2)
+               || meets(bx + half, by, k - 1, x1, y1, x2, y2)
+               || meets(bx, by + half, k - 1, x1, y1, x2, y2)
+               || meets(bx + half, by + half, k - 1, x1, y1, x2, y2);
+    }
+
+    /// Retorna o índice do primeiro intervalo que termina em 'code' ou depois, ou 'count' se não houver.
+    private int locate(long code) {
+        return code == Long.MIN_VALUE ? 0 : firstAbove(bounds, 0, count, HI, code - 1);
+    }
+
+    /// Retorna o primeiro índice em '[from, to)' cujo limite 'slot' é maior que 'key', ou 'to' se não houver.
+    ///
+    /// A busca é exponencial a partir de 'from', de modo que saltar 'd' intervalos custa O(log d).
+    private static int firstAbove(long[] bounds, int from, int to, int slot, long key) {
+        if (from >= to || bounds[2 * from + slot] > key) return from;
+
+        int low = from, bound = 1;
+        while (low + bound < to && bounds[2 * (low + bound) + slot] <= key) {
+            low += bound;
+            bound <<= 1;
+        }
+
+        int high = Math.min(low + bound, to);
+        while (high - low > 1) {
+            int mid = (low + high) >>> 1;
+            if (bounds[2 * mid + slot] <= key) low = mid;
+            else high = mid;
+        }
+        return high;
+    }
+
+    /// Desloca uma coordenada para o intervalo sem sinal '[0, 2^32)', preservando a ordem.
+    private static long unsigned(int coordinate) {
+        return Integer.toUnsignedLong(coordinate ^ Integer.MIN_VALUE);
+    }
+
+    /// Desfaz [#unsigned(int)].
+    private static int signed(long coordinate) {
+        return (int) coordinate ^ Integer.MIN_VALUE;
+    }
+
+    /// Código de Morton da célula, com o bit de sinal invertido.
+    private static long code(long x, long y) {
+        return (spread(x) | spread(y) << 1) ^ Long.MIN_VALUE;
+    }
+
+    /// Quantidade de códigos de um bloco de nível 'k', menos um.
+    private static long span(int k) {
+        return k == TOP_LEVEL ? -1L : (1L << 2 * k) - 1;
+    }
+
+    /// Intercala um zero entre cada um dos 32 bits baixos.
+    private static long spread(long v) {
+        v &= 0xFFFFFFFFL;
+        v = (v | v << 16) & 0x0000FFFF0000FFFFL;
+        v = (v | v << 8) & 0x00FF00FF00FF00FFL;
+        v = (v | v << 4) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | v << 2) & 0x3333333333333333L;
+        return (v | v << 1) & 0x5555555555555555L;
+    }
+
+    /// Desfaz [#spread(long)] sobre os bits pares.
+    private static long compact(long v) {
+        v &= 0x5555555555555555L;
+        v = (v | v >>> 1) & 0x3333333333333333L;
+        v = (v | v >>> 2) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | v >>> 4) & 0x00FF00FF00FF00FFL;
+        v = (v | v >>> 8) & 0x0000FFFF0000FFFFL;
+        return (v | v >>> 16) & 0xFFFFFFFFL;
+    }
+
+    /// Acumula intervalos em ordem crescente, fundindo os que se sobrepõem ou se tocam.
+    private static final class Builder {
+
+        private long[] bounds;
+        private int count;
+
+        Builder(int capacity) {
+            bounds = new long[2 * Math.max(capacity, 1)];
+        }
+
+        void add(long lo, long hi) {
+            if (count > 0 && (lo == Long.MIN_VALUE || lo - 1 <= bounds[2 * count - 1])) {
+                bounds[2 * count - 1] = Math.max(bounds[2 * count - 1], hi);
+                return;
+            }
+            grow(count + 1);
+            bounds[2 * count] = lo;
+            bounds[2 * count + 1] = hi;
+            count++;
+        }
+
+        /// Acrescenta os intervalos '[from, to)' de uma região. Só o primeiro pode se fundir com o último já
+        /// acumulado, desde que este termine antes do fim daquele.
+        void addAll(long[] source, int from, int to) {
+            if (from >= to) return;
+
+            add(source[2 * from], source[2 * from + 1]);
+            int rest = to - from - 1;
+            grow(count + rest);
+            System.arraycopy(source, 2 * (from + 1), bounds, 2 * count, 2 * rest);
+            count += rest;
+        }
+
+        long lastHi() {
+            return bounds[2 * count - 1];
+        }
+
+        Region build() {
+            if (count == 0) return EMPTY;
+            return new Region(bounds.length == 2 * count ? bounds : Arrays.copyOf(bounds, 2 * count), count);
+        }
+
+        private void grow(int capacity) {
+            if (2 * capacity > bounds.length)
+                bounds = Arrays.copyOf(bounds, Math.max(2 * capacity, 2 * bounds.length));
+        }
+    }
+}
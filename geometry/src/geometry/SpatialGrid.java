@@ -0,0 +1,384 @@
+package geometry;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import static java.lang.Math.floorDiv;
+
+/// Grade uniforme (hash espacial) para retângulos que se movem com frequência.
+///
+/// O plano é dividido em células quadradas de lado 'cellSize', e cada retângulo é registrado em todas as células que
+/// toca. Diferente de uma [RTree], que precisaria ser reconstruída a cada quadro, mover um retângulo só altera as
+/// células em que ele entrou ou das quais saiu; se continuar nas mesmas células, a atualização é uma comparação de
+/// quatro inteiros.
+///
+/// Como [Rectangle] não notifica mudanças, quem move o retângulo (pelos setters) deve chamar [#update(int)] com o
+/// identificador recebido em [#insert(Rectangle)]. As consultas fazem a fase ampla pelas células e a fase estreita
+/// com [Rectangle#isIntersection(Rectangle, Rectangle)] sobre as coordenadas atuais.
+///
+/// As células ocupadas ficam em uma tabela de endereçamento aberto com chaves 'long', e cada célula guarda os seus
+/// membros em um 'int[]' reaproveitado: depois que a grade se estabiliza, mover e consultar não alocam objetos.
+/// Células que ficam vazias são mantidas para reuso até [#clear()].
+///
+/// Esta classe não é segura para uso concorrente.
+public final class SpatialGrid {
+
+    /// Recebe cada par de retângulos que colidem.
+    @FunctionalInterface
+    public interface PairConsumer {
+
+        /// @param first  O identificador do primeiro retângulo do par.
+        /// @param second O identificador do segundo retângulo do par.
+        void accept(int first, int second);
+    }
+
+    private final int cellSize;
+
+    // Retângulos, indexados pelo identificador, e o intervalo de células de cada um.
+    private Rectangle[] rectangles = new Rectangle[16];
+    private int[] cellX1 = new int[16], cellY1 = new int[16], cellX2 = new int[16], cellY2 = new int[16];
+    private int[] stamp = new int[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int handles;
+    private int size;
+    private int epoch;
+
+    // Tabela de células: 'slots[i]' guarda o índice da célula mais um ('0' = posição vazia).
+    private long[] keys;
+    private int[] slots;
+    private int mask;
+    private int threshold;
+
+    // Células, na ordem em que foram criadas.
+    private long[] cellKeys = new long[16];
+    private int[][] members = new int[16][];
+    private int[] memberCount = new int[16];
+    private int cells;
+
+    /// Cria uma grade vazia.
+    ///
+    /// @param cellSize O lado das células. Um valor próximo do tamanho típico dos retângulos equilibra a quantidade de
+    ///                 células por retângulo e de retângulos por célula.
+    /// @throws IllegalArgumentException Se 'cellSize' não for positivo.
+    public SpatialGrid(int cellSize) {
+        if (cellSize < 1) throw new IllegalArgumentException("Tamanho de célula inválido: " + cellSize);
+
+        this.cellSize = cellSize;
+        allocateTable(64);
+    }
+
+    /// Retorna o lado das células.
+    ///
+    /// @return O tamanho das células.
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /// Adiciona um retângulo à grade.
+    ///
+    /// @param rectangle O retângulo. A grade guarda a referência, e não uma cópia.
+    /// @return O identificador do retângulo, usado em [#update(int)], [#remove(int)] e nas consultas.
+    /// @throws IllegalArgumentException Se o retângulo for 'null'.
+    public int insert(Rectangle rectangle) {
+        if (rectangle == null) throw new IllegalArgumentException("O retângulo não pode ser nulo.");
+
+        int handle = freeCount > 0 ? free[--freeCount] : newHandle();
+
+        rectangles[handle] = rectangle;
+        cellX1[handle] = cellOf(rectangle.getX1());
+        cellY1[handle] = cellOf(rectangle.getY1());
+        cellX2[handle] = cellOf(rectangle.getX2());
+        cellY2[handle] = cellOf(rectangle.getY2());
+        stamp[handle] = epoch;
+        size++;
+
+        for (long cx = cellX1[handle]; cx <= cellX2[handle]; cx++)
+            for (long cy = cellY1[handle]; cy <= cellY2[handle]; cy++)
+                add(cell((int) cx, (int) cy, true), handle);
+
+        return handle;
+    }
+
+    /// Atualiza as células de um retângulo depois que as suas coordenadas mudaram.
+    ///
+    /// Se o retângulo continuar nas mesmas células, nada é alterado. Caso contrário, ele sai apenas das células que
+    /// deixou de tocar e entra apenas nas que passou a tocar.
+    ///
+    /// @param handle O identificador do retângulo.
+    /// @throws IllegalArgumentException Se o identificador não estiver na grade.
+    public void update(int handle) {
+        Rectangle rectangle = get(handle);
+
+        int ox1 = cellX1[handle], oy1 = cellY1[handle], ox2 = cellX2[handle], oy2 = cellY2[handle];
+        int nx1 = cellOf(rectangle.getX1()), ny1 = cellOf(rectangle.getY1());
+        int nx2 = cellOf(rectangle.getX2()), ny2 = cellOf(rectangle.getY2());
+
+        if (nx1 == ox1 && ny1 == oy1 && nx2 == ox2 && ny2 == oy2) return;
+
+        for (long cx = ox1; cx <= ox2; cx++)
+            for (long cy = oy1; cy <= oy2; cy++)
+                if (cx < nx1 || cx > nx2 || cy < ny1 || cy > ny2) delete(cell((int) cx, (int) cy, false), handle);
+
+        for (long cx = nx1; cx <= nx2; cx++)
+            for (long cy = ny1; cy <= ny2; cy++)
+                if (cx < ox1 || cx > ox2 || cy < oy1 || cy > oy2) add(cell((int) cx, (int) cy, true), handle);
+
+        cellX1[handle] = nx1;
+        cellY1[handle] = ny1;
+        cellX2[handle] = nx2;
+        cellY2[handle] = ny2;
+    }
+
+    /// Remove um retângulo da grade. O identificador pode ser reutilizado por inserções futuras.
+    ///
+    /// @param handle O identificador do retângulo.
+    /// @throws IllegalArgumentException Se o identificador não estiver na grade.
+    public void remove(int handle) {
+        get(handle);
+
+        for (long cx = cellX1[handle]; cx <= cellX2[handle]; cx++)
+            for (long cy = cellY1[handle]; cy <= cellY2[handle]; cy++)
+                delete(cell((int) cx, (int) cy, false), handle);
+
+        rectangles[handle] = null;
+        free[freeCount++] = handle;
+        size--;
+    }
+
+    /// Retorna o retângulo associado a um identificador.
+    ///
+    /// @param handle O identificador do retângulo.
+    /// @return O retângulo.
+    /// @throws IllegalArgumentException Se o identificador não estiver na grade.
+    public Rectangle get(int handle) {
+        if (handle < 0 || handle >= handles || rectangles[handle] == null)
+            throw new IllegalArgumentException("Identificador inválido: " + handle);
+
+        return rectangles[handle];
+    }
+
+    /// Retorna a quantidade de retângulos na grade.
+    ///
+    /// @return O tamanho da grade.
+    public int size() {
+        return size;
+    }
+
+    /// Remove todos os retângulos e células.
+    public void clear() {
+        Arrays.fill(rectangles, 0, handles, null);
+        Arrays.fill(slots, 0);
+        Arrays.fill(members, 0, cells, null);
+        handles = size = freeCount = cells = 0;
+    }
+
+    /// Relata cada retângulo que intersecta a região, uma única vez.
+    ///
+    /// @param region   A região de consulta.
+    /// @param consumer Recebe o identificador de cada retângulo que intersecta a região.
+    /// @return A quantidade de retângulos relatados.
+    public int query(Rectangle region, IntConsumer consumer) {
+        int x1 = cellOf(region.getX1()), y1 = cellOf(region.getY1());
+        int x2 = cellOf(region.getX2()), y2 = cellOf(region.getY2());
+        int mark = nextEpoch(), found = 0;
+
+        // Para regiões que cobrem mais células do que as existentes, percorre as células existentes.
+        if (((long) x2 - x1 + 1) * ((long) y2 - y1 + 1) > cells) {
+            for (int c = 0; c < cells; c++) {
+                int cx = (int) (cellKeys[c] >> 32), cy = (int) cellKeys[c];
+                if (cx >= x1 && cx <= x2 && cy >= y1 && cy <= y2) found += report(c, region, mark, consumer);
+            }
+            return found;
+        }
+
+        for (long cx = x1; cx <= x2; cx++)
+            for (long cy = y1; cy <= y2; cy++) {
+                int c = cell((int) cx, (int) cy, false);
+                if (c >= 0) found += report(c, region, mark, consumer);
+            }
+
+        return found;
+    }
+
+    /// Relata cada retângulo que contém o ponto, com bordas inclusivas, como [Rectangle#isPointInside(int, int)].
+    ///
+    /// @param x        Coordenada x do ponto.
+    /// @param y        Coordenada y do ponto.
+    /// @param consumer Recebe o identificador de cada retângulo que contém o ponto.
+    /// @return A quantidade de retângulos relatados.
+    public int queryPoint(int x, int y, IntConsumer consumer) {
+        int c = cell(cellOf(x), cellOf(y), false);
+        if (c < 0) return 0;
+
+        int[] list = members[c];
+        int found = 0;
+
+        // Um ponto está em uma única célula, então não há repetições.
+        for (int k = 0, n = memberCount[c]; k < n; k++) {
+            int handle = list[k];
+            if (rectangles[handle].isPointInside(x, y)) {
+                consumer.accept(handle);
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    /// Relata cada par de retângulos da grade que se intersectam, uma única vez.
+    ///
+    /// Os pares candidatos são os que dividem uma célula. Para não repetir pares que dividem várias células, cada par
+    /// é relatado apenas na célula que contém o canto inferior esquerdo da sua interseção.
+    ///
+    /// @param consumer Recebe os identificadores de cada par.
+    /// @return A quantidade de pares relatados.
+    public long forEachCollidingPair(PairConsumer consumer) {
+        long found = 0;
+
+        for (int c = 0; c < cells; c++) {
+            int[] list = members[c];
+            int n = memberCount[c];
+            int cx = (int) (cellKeys[c] >> 32), cy = (int) cellKeys[c];
+
+            for (int i = 0; i < n; i++) {
+                Rectangle a = rectangles[list[i]];
+
+                for (int j = i + 1; j < n; j++) {
+                    Rectangle b = rectangles[list[j]];
+                    if (!Rectangle.isIntersection(a, b)) continue;
+
+                    if (cellOf(Math.max(a.getX1(), b.getX1())) != cx || cellOf(Math.max(a.getY1(), b.getY1())) != cy)
+                        continue;
+
+                    consumer.accept(list[i], list[j]);
+                    found++;
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /// Relata os membros da célula 'c' que intersectam a região e ainda não foram relatados nesta consulta.
+    private int report(int c, Rectangle region, int mark, IntConsumer consumer) {
+        int[] list = members[c];
+        int found = 0;
+
+        for (int k = 0, n = memberCount[c]; k < n; k++) {
+            int handle = list[k];
+            if (stamp[handle] == mark) continue;
+
+            stamp[handle] = mark;
+            if (Rectangle.isIntersection(region, rectangles[handle])) {
+                consumer.accept(handle);
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    /// Marca de consulta nova, usada para não relatar duas vezes um retângulo que ocupa várias células.
+    private int nextEpoch() {
+        if (++epoch == 0) {
+            Arrays.fill(stamp, 0);
+            epoch = 1;
+        }
+        return epoch;
+    }
+
+    private int cellOf(int coordinate) {
+        return floorDiv(coordinate, cellSize);
+    }
+
+    private int newHandle() {
+        if (handles == rectangles.length) {
+            int capacity = handles << 1;
+            rectangles = Arrays.copyOf(rectangles, capacity);
+            cellX1 = Arrays.copyOf(cellX1, capacity);
+            cellY1 = Arrays.copyOf(cellY1, capacity);
+            cellX2 = Arrays.copyOf(cellX2, capacity);
+            cellY2 = Arrays.copyOf(cellY2, capacity);
+            stamp = Arrays.copyOf(stamp, capacity);
+            free = Arrays.copyOf(free, capacity);
+        }
+        return handles++;
+    }
+
+    private void add(int c, int handle) {
+        int[] list = members[c];
+        if (list == null) list = members[c] = new int[4];
+        else if (memberCount[c] == list.length) list = members[c] = Arrays.copyOf(list, list.length << 1);
+
+        list[memberCount[c]++] = handle;
+    }
+
+    private void delete(int c, int handle) {
+        int[] list = members[c];
+        int n = memberCount[c];
+
+        for (int k = 0; k < n; k++) {
+            if (list[k] == handle) {
+                list[k] = list[n - 1];
+                memberCount[c] = n - 1;
+                return;
+            }
+        }
+    }
+
+    /// Índice da célula '(cx, cy)'; se ela não existir, cria ('create') ou retorna '-1'.
+    private int cell(int cx, int cy, boolean create) {
+        long key = (long) cx << 32 | (cy & 0xFFFFFFFFL);
+
+        for (int i = index(key); ; i = (i + 1) & mask) {
+            int slot = slots[i];
+
+            if (slot == 0) {
+                if (!create) return -1;
+                slots[i] = newCell(key) + 1;
+                keys[i] = key;
+                if (cells > threshold) allocateTable(slots.length << 1);
+                return cells - 1;
+            }
+            if (keys[i] == key) return slot - 1;
+        }
+    }
+
+    private int newCell(long key) {
+        if (cells == cellKeys.length) {
+            int capacity = cells << 1;
+            cellKeys = Arrays.copyOf(cellKeys, capacity);
+            members = Arrays.copyOf(members, capacity);
+            memberCount = Arrays.copyOf(memberCount, capacity);
+        }
+
+        cellKeys[cells] = key;
+        memberCount[cells] = 0;
+        return cells++;
+    }
+
+    /// Recria a tabela de células com o tamanho informado (potência de dois), reinserindo as células existentes.
+    private void allocateTable(int length) {
+        keys = new long[length];
+        slots = new int[length];
+        mask = length - 1;
+        threshold = length / 4 * 3;
+
+        for (int c = 0; c < cells; c++) {
+            int i = index(cellKeys[c]);
+            while (slots[i] != 0) i = (i + 1) & mask;
+            keys[i] = cellKeys[c];
+            slots[i] = c + 1;
+        }
+    }
+
+    /// Posição ideal da chave na tabela (finalizador do MurmurHash3).
+    private int index(long key) {
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+        key *= 0xC4CEB9FE1A85EC53L;
+        return (int) (key ^ (key >>> 33)) & mask;
+    }
+}
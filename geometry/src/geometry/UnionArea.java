@@ -0,0 +1,242 @@
+package geometry;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/// Área da união de retângulos (medida de Klee) e área coberta por ao menos 'k' retângulos.
+///
+/// Usa a mesma semântica discreta de [Rectangle#calculateArea()]: o retângulo '(x1, y1; x2, y2)' cobre as células
+/// '[x1, x2] × [y1, y2]', bordas incluídas, de modo que a área da união de um único retângulo é a sua própria área.
+/// Somar [Rectangle#areaOfIntersection] par a par não resolve regiões cobertas por três ou mais retângulos; aqui a
+/// área é calculada por uma varredura em x:
+///
+/// - cada retângulo vira um evento de entrada em 'x1' e um de saída em 'x2 + 1';
+/// - as ordenadas 'y1' e 'y2 + 1' são comprimidas, e uma árvore de segmentos sobre os intervalos elementares guarda,
+///   em cada nó, quantos retângulos o cobrem por inteiro e o comprimento coberto ao menos 'j' vezes na subárvore;
+/// - entre dois eventos consecutivos, a área acrescentada é o comprimento coberto na raiz vezes a distância em x.
+///
+/// O tempo é O(n log n) para a união e O(k · n log n) para a cobertura mínima 'k', e a árvore ocupa O(n · k) de
+/// memória: cada nó guarda um comprimento por cobertura de '1' a 'k'. Como nenhuma célula é coberta mais de 'n'
+/// vezes, 'k' é limitado a 'n' e as coberturas acima disso têm área zero. As coordenadas são tratadas em 'long', e o
+/// resultado não estoura enquanto a área total couber em um 'long'.
+public final class UnionArea {
+
+    private UnionArea() {
+    }
+
+    /// Calcula a área coberta por ao menos um dos retângulos.
+    ///
+    /// @param rectangles Os retângulos.
+    /// @return A área da união.
+    public static long of(Collection<? extends Rectangle> rectangles) {
+        return coverage(rectangles, 1)[0];
+    }
+
+    /// Calcula a área coberta por ao menos um dos retângulos do lote.
+    ///
+    /// @param batch Os retângulos.
+    /// @return A área da união.
+    public static long of(RectangleBatch batch) {
+        return coverage(batch, 1)[0];
+    }
+
+    /// Calcula a área coberta por ao menos 'k' dos retângulos.
+    ///
+    /// @param rectangles Os retângulos.
+    /// @param k          A cobertura mínima.
+    /// @return A área coberta ao menos 'k' vezes.
+    /// @throws IllegalArgumentException Se 'k' não for positivo.
+    /// @throws ArithmeticException     Se a árvore de 'n · min(k, n)' comprimentos não couber em um array.
+    public static long coveredAtLeast(Collection<? extends Rectangle> rectangles, int k) {
+        long[] result = levels(rectangles, k);
+        return k <= result.length ? result[k - 1] : 0;
+    }
+
+    /// Calcula, em uma única varredura, a área coberta ao menos '1', '2', ..., 'maxK' vezes.
+    ///
+    /// A área coberta exatamente 'j' vezes é 'result[j - 1] - result[j]'.
+    ///
+    /// @param rectangles Os retângulos.
+    /// @param maxK       A maior cobertura de interesse.
+    /// @return Um array em que 'result[j - 1]' é a área coberta ao menos 'j' vezes.
+    /// @throws IllegalArgumentException Se 'maxK' não for positivo.
+    /// @throws ArithmeticException     Se a árvore de 'n · min(maxK, n)' comprimentos não couber em um array.
+    public static long[] coverage(Collection<? extends Rectangle> rectangles, int maxK) {
+        return Arrays.copyOf(levels(rectangles, maxK), maxK);
+    }
+
+    /// Calcula, em uma única varredura, a área coberta ao menos '1', '2', ..., 'maxK' vezes pelos retângulos do lote.
+    ///
+    /// @param batch Os retângulos.
+    /// @param maxK  A maior cobertura de interesse.
+    /// @return Um array em que 'result[j - 1]' é a área coberta ao menos 'j' vezes.
+    /// @throws IllegalArgumentException Se 'maxK' não for positivo.
+    /// @throws ArithmeticException     Se a árvore de 'n · min(maxK, n)' comprimentos não couber em um array.
+    public static long[] coverage(RectangleBatch batch, int maxK) {
+        int n = batch.size();
+        int[] x1 = new int[n], y1 = new int[n], x2 = new int[n], y2 = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            x1[i] = batch.getX1(i);
+            y1[i] = batch.getY1(i);
+            x2[i] = batch.getX2(i);
+            y2[i] = batch.getY2(i);
+        }
+
+        return Arrays.copyOf(levels(x1, y1, x2, y2, n, maxK), maxK);
+    }
+
+    private static long[] levels(Collection<? extends Rectangle> rectangles, int maxK) {
+        int n = rectangles.size();
+        int[] x1 = new int[n], y1 = new int[n], x2 = new int[n], y2 = new int[n];
+
+        int i = 0;
+        for (Rectangle r : rectangles) {
+            x1[i] = r.getX1();
+            y1[i] = r.getY1();
+            x2[i] = r.getX2();
+            y2[i] = r.getY2();
+            i++;
+        }
+
+        return levels(x1, y1, x2, y2, n, maxK);
+    }
+
+    /// Calcula as áreas cobertas ao menos '1', '2', ..., 'min(maxK, n)' vezes; nenhuma célula é coberta mais de 'n'
+    /// vezes, de modo que as coberturas acima disso têm área zero e não ocupam a árvore.
+    private static long[] levels(int[] x1, int[] y1, int[] x2, int[] y2, int n, int maxK) {
+        if (maxK < 1) throw new IllegalArgumentException("A cobertura mínima deve ser positiva: " + maxK);
+
+        int depth = Math.min(maxK, n);
+        long[] result = new long[depth];
+        if (n == 0) return result;
+
+        // Ordenadas comprimidas: as bordas das células são y1 e y2 + 1.
+        long[] ys = new long[2 * n];
+        for (int i = 0; i < n; i++) {
+            ys[2 * i] = y1[i];
+            ys[2 * i + 1] = (long) y2[i] + 1;
+        }
+
+        Arrays.sort(ys);
+        int distinct = distinct(ys);
+
+        int[] low = new int[n], high = new int[n];
+        for (int i = 0; i < n; i++) {
+            low[i] = Arrays.binarySearch(ys, 0, distinct, y1[i]);
+            high[i] = Arrays.binarySearch(ys, 0, distinct, (long) y2[i] + 1);
+        }
+
+        // Entradas em ordem de x1 e saídas em ordem de x2 (a saída acontece em x2 + 1).
+        int[] starts = sortedBy(x1, n), ends = sortedBy(x2, n);
+        CoverageTree tree = new CoverageTree(ys, distinct - 1, depth);
+
+        int s = 0, e = 0;
+        long x = Math.min(x1[starts[0]], (long) x2[ends[0]] + 1);
+
+        while (e < n) {
+            // Processa todos os eventos em 'x'.
+            while (e < n && (long) x2[ends[e]] + 1 == x) {
+                int i = ends[e++];
+                tree.update(low[i], high[i], -1);
+            }
+            while (s < n && x1[starts[s]] == x) {
+                int i = starts[s++];
+                tree.update(low[i], high[i], +1);
+            }
+
+            if (e == n) break;
+
+            long next = (long) x2[ends[e]] + 1;
+            if (s < n) next = Math.min(next, x1[starts[s]]);
+
+            long width = next - x;
+            for (int k = 1; k <= depth; k++) result[k - 1] += tree.covered(k) * width;
+
+            x = next;
+        }
+
+        return result;
+    }
+
+    /// Remove os valores repetidos do início de um array ordenado, devolvendo a quantidade de distintos.
+    private static int distinct(long[] sorted) {
+        int count = 1;
+
+        for (int i = 1; i < sorted.length; i++)
+            if (sorted[i] != sorted[count - 1]) sorted[count++] = sorted[i];
+
+        return count;
+    }
+
+    /// Índices '0..n-1' ordenados pela coordenada informada.
+    private static int[] sortedBy(int[] coordinate, int n) {
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) keys[i] = (long) coordinate[i] << 32 | i;
+
+        Arrays.sort(keys);
+
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = (int) keys[i];
+        return order;
+    }
+
+    /// Árvore de segmentos sobre os intervalos elementares '[ys[i], ys[i + 1])'.
+    ///
+    /// 'count[node]' é a quantidade de retângulos que cobrem o nó por inteiro (sem propagação para os filhos), e
+    /// 'length[node * maxK + j - 1]' é o comprimento da subárvore coberto ao menos 'j' vezes, contando apenas os
+    /// retângulos registrados no nó e abaixo dele.
+    private static final class CoverageTree {
+
+        private final long[] ys;
+        private final int segments;
+        private final int maxK;
+        private final int[] count;
+        private final long[] length;
+
+        CoverageTree(long[] ys, int segments, int maxK) {
+            this.ys = ys;
+            this.segments = segments;
+            this.maxK = maxK;
+            this.count = new int[4 * segments];
+            this.length = new long[Math.multiplyExact(Math.multiplyExact(4, segments), maxK)];
+        }
+
+        /// Comprimento total coberto ao menos 'k' vezes.
+        long covered(int k) {
+            return length[maxK + k - 1]; // Nó raiz = 1.
+        }
+
+        /// Soma 'delta' à cobertura dos intervalos elementares '[from, to)'.
+        void update(int from, int to, int delta) {
+            update(1, 0, segments, from, to, delta);
+        }
+
+        private void update(int node, int lo, int hi, int from, int to, int delta) {
+            if (to <= lo || hi <= from) return;
+
+            if (from <= lo && hi <= to) {
+                count[node] += delta;
+            } else {
+                int mid = (lo + hi) >>> 1;
+                update(2 * node, lo, mid, from, to, delta);
+                update(2 * node + 1, mid, hi, from, to, delta);
+            }
+
+            pull(node, lo, hi);
+        }
+
+        /// Recalcula os comprimentos do nó a partir da sua contagem e dos filhos.
+        private void pull(int node, int lo, int hi) {
+            int c = count[node], base = node * maxK;
+            long full = ys[hi] - ys[lo];
+            boolean leaf = hi - lo == 1;
+
+            for (int k = 1; k <= maxK; k++) {
+                if (c >= k) length[base + k - 1] = full;
+                else if (leaf) length[base + k - 1] = 0;
+                else length[base + k - 1] = length[2 * node * maxK + k - c - 1] + length[(2 * node + 1) * maxK + k - c - 1];
+            }
+        }
+    }
+}
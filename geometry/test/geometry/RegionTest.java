@@ -0,0 +1,27 @@
+package geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RegionTest {
+
+    private static final int M = Integer.MIN_VALUE;
+
+    /// A célula '(Integer.MIN_VALUE, Integer.MIN_VALUE)' tem o menor código armazenado; o intervalo que começa nela
+    /// precisa ser fundido ao anterior, que também começa nela, para manter a representação canônica.
+    @Test
+    void unionMergesIntervalsAtTheMinimumCell() {
+        Region corner = Region.of(new Rectangle(M, M, M, M));
+        Region square = Region.of(new Rectangle(M, M, M + 1, M + 1));
+
+        Region union = corner.union(square);
+
+        assertEquals(4, union.area());
+        assertEquals(square, union);
+        assertEquals(square.blocks(), union.blocks());
+        assertEquals(square, Region.of(List.of(new Rectangle(M, M, M, M), new Rectangle(M, M, M + 1, M + 1))));
+    }
+}
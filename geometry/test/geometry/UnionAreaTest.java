@@ -0,0 +1,24 @@
+package geometry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class UnionAreaTest {
+
+    /// Coberturas acima da quantidade de retângulos não alocam níveis na árvore e têm área zero.
+    @Test
+    void coverageAboveRectangleCountIsZero() {
+        List<Rectangle> rectangles = List.of(
+                new Rectangle(0, 0, 3, 3),
+                new Rectangle(2, 2, 5, 5),
+                new Rectangle(3, 3, 4, 4)
+        );
+
+        assertArrayEquals(new long[]{28, 7, 1, 0, 0}, UnionArea.coverage(rectangles, 5));
+        assertEquals(0, UnionArea.coveredAtLeast(rectangles, 1_000_000_000));
+    }
+}